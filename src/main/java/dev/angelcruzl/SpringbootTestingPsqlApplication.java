@@ -2,12 +2,17 @@ package dev.angelcruzl;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class SpringbootTestingPsqlApplication {
 
+    private static final int STARTUP_STEPS_CAPACITY = 4096;
+
     public static void main(String[] args) {
-        SpringApplication.run(SpringbootTestingPsqlApplication.class, args);
+        SpringApplication application = new SpringApplication(SpringbootTestingPsqlApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+        application.run(args);
     }
 
 }
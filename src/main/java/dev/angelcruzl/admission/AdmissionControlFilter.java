@@ -0,0 +1,87 @@
+package dev.angelcruzl.admission;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Rejects API requests with 503 and Retry-After when the {@link AdmissionController} has no room for them. Safe
+ * methods are admitted as reads, everything else as writes. Asynchronous requests hold their slot until they complete.
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final AdmissionController admissionController;
+
+    private final String retryAfter;
+
+    public AdmissionControlFilter(AdmissionController admissionController, Duration retryAfter) {
+        this.admissionController = admissionController;
+        this.retryAfter = Long.toString(Math.max(1, retryAfter.toSeconds()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        AdmissionController.Priority priority = SAFE_METHODS.contains(request.getMethod())
+                ? AdmissionController.Priority.READ
+                : AdmissionController.Priority.WRITE;
+        if (!admissionController.tryAcquire(priority)) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write("Server is overloaded, retry after " + retryAfter + " s");
+            return;
+        }
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(priority));
+            } else {
+                admissionController.release(priority);
+            }
+        }
+    }
+
+    private class ReleaseOnComplete implements AsyncListener {
+
+        private final AdmissionController.Priority priority;
+
+        ReleaseOnComplete(AdmissionController.Priority priority) {
+            this.priority = priority;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            admissionController.release(priority);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package dev.angelcruzl.admission;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admits API requests up to a concurrency limit that follows how long requests wait for the database. Threads queue
+ * at the database bulkhead before they ever reach Hikari, so its permit wait time and queue length are the main
+ * signal, and Hikari's acquire time and pending count only matter when the bulkhead is disabled. Each sample interval
+ * the limit shrinks by 10% while either average wait is over target, and grows by one while both are under target
+ * and the limit is actually reached. Writes may use the whole limit and reads only a
+ * share of it, so reads are shed first as the limit shrinks. Rejecting excess requests up front keeps the admitted
+ * ones fast instead of letting every request queue on the pool until it times out.
+ */
+public class AdmissionController implements MeterBinder {
+
+    public enum Priority {
+        READ, WRITE
+    }
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final double readShare;
+
+    private final long targetAcquireNanos;
+
+    private final long sampleIntervalNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    private final Map<Priority, AtomicInteger> inFlightByPriority = new EnumMap<>(Priority.class);
+
+    private final Map<Priority, AtomicLong> rejectedByPriority = new EnumMap<>(Priority.class);
+
+    private final List<WaitSignal> waitSignals = List.of(
+            new WaitSignal("students.db.bulkhead.wait", "students.db.bulkhead.waiting"),
+            new WaitSignal("hikaricp.connections.acquire", "hikaricp.connections.pending"));
+
+    private final AtomicLong nextSampleAt;
+
+    private volatile int limit;
+
+    private volatile MeterRegistry registry;
+
+    public AdmissionController(int minLimit, int maxLimit, double readShare, Duration targetAcquireLatency,
+                               Duration sampleInterval) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("limits must satisfy 1 <= min-limit <= max-limit");
+        }
+        if (readShare <= 0 || readShare > 1) {
+            throw new IllegalArgumentException("read-share must be greater than 0 and at most 1");
+        }
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.readShare = readShare;
+        this.targetAcquireNanos = targetAcquireLatency.toNanos();
+        this.sampleIntervalNanos = sampleInterval.toNanos();
+        this.limit = maxLimit;
+        this.nextSampleAt = new AtomicLong(System.nanoTime() + sampleIntervalNanos);
+        for (Priority priority : Priority.values()) {
+            inFlightByPriority.put(priority, new AtomicInteger());
+            rejectedByPriority.put(priority, new AtomicLong());
+        }
+    }
+
+    public boolean tryAcquire(Priority priority) {
+        long now = System.nanoTime();
+        long sampleAt = nextSampleAt.get();
+        if (now - sampleAt >= 0 && nextSampleAt.compareAndSet(sampleAt, now + sampleIntervalNanos)) {
+            sample();
+        }
+
+        int allowed = allowed(priority, limit);
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                rejectedByPriority.get(priority).incrementAndGet();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                inFlightByPriority.get(priority).incrementAndGet();
+                peakInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    public void release(Priority priority) {
+        inFlightByPriority.get(priority).decrementAndGet();
+        inFlight.decrementAndGet();
+    }
+
+    public synchronized void sample() {
+        int peak = peakInFlight.getAndSet(inFlight.get());
+        MeterRegistry registry = this.registry;
+        if (registry == null) {
+            return;
+        }
+
+        boolean congested = false;
+        for (WaitSignal signal : waitSignals) {
+            congested |= signal.isCongested(registry, targetAcquireNanos);
+        }
+        int current = limit;
+        if (congested) {
+            limit = Math.max(minLimit, (int) (current * BACKOFF_RATIO));
+        } else if (peak >= allowed(Priority.READ, current)) {
+            limit = Math.min(maxLimit, current + 1);
+        }
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        Gauge.builder("students.admission.limit", this, AdmissionController::limit)
+                .description("Concurrent API requests currently admitted at most")
+                .register(registry);
+        for (Priority priority : Priority.values()) {
+            String tag = priority.name().toLowerCase(Locale.ROOT);
+            Gauge.builder("students.admission.active", inFlightByPriority.get(priority), AtomicInteger::get)
+                    .description("API requests in progress")
+                    .tag("priority", tag)
+                    .register(registry);
+            FunctionCounter.builder("students.admission.rejected", rejectedByPriority.get(priority), AtomicLong::get)
+                    .description("API requests rejected to shed load")
+                    .tag("priority", tag)
+                    .register(registry);
+        }
+    }
+
+    private int allowed(Priority priority, int limit) {
+        return priority == Priority.WRITE ? limit : Math.max(1, (int) (limit * readShare));
+    }
+
+    private static final class WaitSignal {
+
+        private final String waitTimer;
+
+        private final String queueGauge;
+
+        private long lastCount;
+
+        private double lastNanos;
+
+        private WaitSignal(String waitTimer, String queueGauge) {
+            this.waitTimer = waitTimer;
+            this.queueGauge = queueGauge;
+        }
+
+        private boolean isCongested(MeterRegistry registry, long targetNanos) {
+            long count = 0;
+            double nanos = 0;
+            for (Timer timer : registry.find(waitTimer).timers()) {
+                count += timer.count();
+                nanos += timer.totalTime(TimeUnit.NANOSECONDS);
+            }
+            double queued = 0;
+            for (Gauge gauge : registry.find(queueGauge).gauges()) {
+                queued += gauge.value();
+            }
+
+            long waits = count - lastCount;
+            double averageNanos = waits > 0 ? (nanos - lastNanos) / waits : 0;
+            lastCount = count;
+            lastNanos = nanos;
+
+            // With nothing acquired in the whole window, threads still queued are the only signal left
+            return waits > 0 ? averageNanos > targetNanos : queued > 0;
+        }
+    }
+}
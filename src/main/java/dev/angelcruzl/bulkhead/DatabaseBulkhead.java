@@ -0,0 +1,192 @@
+package dev.angelcruzl.bulkhead;
+
+import dev.angelcruzl.exception.BulkheadFullException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps the number of connections in use at the connection pool size. With virtual threads Tomcat no longer
+ * limits concurrency, so without this every request would queue inside Hikari and fail only after its
+ * connection timeout. The permit is taken when the application's {@code dataSource} hands out a connection
+ * and returned when that connection is closed, so cache hits and the in-memory search index never wait
+ * for one. Code that needs a permit around more than one connection can hold it with {@link #execute}.
+ */
+@Component
+@ConditionalOnProperty(name = "students.db.bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class DatabaseBulkhead implements BeanPostProcessor, MeterBinder {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final Semaphore permits;
+
+    private final int maxPermits;
+
+    private final Duration timeout;
+
+    private volatile Timer waitTimer;
+
+    public DatabaseBulkhead(@Value("${students.db.bulkhead.permits:10}") int maxPermits,
+                            @Value("${students.db.bulkhead.timeout:2s}") Duration timeout) {
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)) {
+            return new BulkheadDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    public Object execute(Invocation invocation) throws Throwable {
+        int[] held = depth.get();
+        if (held[0] > 0) {
+            held[0]++;
+            try {
+                return invocation.proceed();
+            } finally {
+                held[0]--;
+            }
+        }
+
+        acquire();
+        held[0] = 1;
+        try {
+            return invocation.proceed();
+        } finally {
+            depth.remove();
+            permits.release();
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("students.db.bulkhead.available", permits, Semaphore::availablePermits)
+                .description("Database permits not in use")
+                .register(registry);
+        Gauge.builder("students.db.bulkhead.waiting", permits, Semaphore::getQueueLength)
+                .description("Threads waiting for a database permit")
+                .register(registry);
+        Gauge.builder("students.db.bulkhead.max", () -> maxPermits)
+                .description("Database permits in total")
+                .register(registry);
+        waitTimer = Timer.builder("students.db.bulkhead.wait")
+                .description("Time spent waiting for a database permit")
+                .register(registry);
+    }
+
+    private void acquire() {
+        boolean acquired;
+        long waitStart = System.nanoTime();
+        try {
+            acquired = permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BulkheadFullException("Interrupted while waiting for a database permit");
+        } finally {
+            Timer timer = waitTimer;
+            if (timer != null) {
+                timer.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (!acquired) {
+            throw new BulkheadFullException("No database permit became available within " + timeout.toMillis() + " ms");
+        }
+    }
+
+    private Connection open(ConnectionSource source) throws SQLException {
+        if (depth.get()[0] > 0) {
+            return source.get();
+        }
+
+        acquire();
+        Connection connection;
+        try {
+            connection = source.get();
+        } catch (SQLException | RuntimeException | Error e) {
+            permits.release();
+            throw e;
+        }
+        return releasingOnClose(connection);
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "close" -> {
+                        try {
+                            yield invoke(connection, method, args);
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                    }
+                    default -> invoke(connection, method, args);
+                });
+    }
+
+    private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Invocation {
+        Object proceed() throws Throwable;
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection get() throws SQLException;
+    }
+
+    private final class BulkheadDataSource extends DelegatingDataSource {
+
+        private BulkheadDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return open(super::getConnection);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return open(() -> super.getConnection(username, password));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package dev.angelcruzl.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.angelcruzl.datasource.ReadYourWrites;
+import dev.angelcruzl.model.Student;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+@Component
+public class StudentCache {
+
+    private static final int STRIPES = 64;
+
+    private final Cache<Long, Student> cache;
+
+    // Bumped on every invalidation so a read that loaded a row before a concurrent write
+    // committed cannot put that stale row back into the cache.
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+    // Ids written within the read-your-writes window. A replica may still return their old row, and this cache
+    // is shared by every client, so only these misses are loaded from the primary; the rest use the replica.
+    private final Cache<Long, Boolean> recentWrites;
+
+    public StudentCache(@Value("${students.cache.maximum-size:10000}") long maximumSize,
+                        @Value("${students.cache.ttl:5m}") Duration ttl,
+                        @Value("${students.datasource.routing.sticky-window:5s}") Duration stickyWindow) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.recentWrites = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(stickyWindow)
+                .build();
+    }
+
+    public Optional<Student> get(Long id, Function<Long, Optional<Student>> loader) {
+        Student cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long generation = generations.get(stripe(id));
+        Optional<Student> loaded = recentWrites.getIfPresent(id) != null
+                ? ReadYourWrites.onPrimary(() -> loader.apply(id))
+                : loader.apply(id);
+        loaded.ifPresent(student -> cache.asMap().compute(id, (key, current) ->
+                generations.get(stripe(id)) == generation ? student : current));
+        return loaded;
+    }
+
+    public void invalidate(Long id) {
+        evict(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(id);
+                }
+            });
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public Cache<Long, Student> nativeCache() {
+        return cache;
+    }
+
+    private void evict(Long id) {
+        generations.incrementAndGet(stripe(id));
+        recentWrites.put(id, Boolean.TRUE);
+        cache.invalidate(id);
+    }
+
+    private static int stripe(Long id) {
+        return Long.hashCode(id) & (STRIPES - 1);
+    }
+}
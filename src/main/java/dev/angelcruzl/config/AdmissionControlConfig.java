@@ -0,0 +1,43 @@
+package dev.angelcruzl.config;
+
+import dev.angelcruzl.admission.AdmissionControlFilter;
+import dev.angelcruzl.admission.AdmissionController;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Sheds API load at the edge when the connection pool backs up. The filter runs right after the HTTP observation
+ * filter, so rejected requests still show up in the request metrics, and only covers {@code /api/*} so health checks
+ * and metric scrapes are never shed.
+ */
+@Configuration
+@ConditionalOnProperty(name = "students.admission.enabled", havingValue = "true")
+public class AdmissionControlConfig {
+
+    @Bean
+    public AdmissionController admissionController(
+            @Value("${students.admission.min-limit:10}") int minLimit,
+            @Value("${students.admission.max-limit:200}") int maxLimit,
+            @Value("${students.admission.read-share:0.8}") double readShare,
+            @Value("${students.admission.target-acquire-latency:20ms}") Duration targetAcquireLatency,
+            @Value("${students.admission.sample-interval:250ms}") Duration sampleInterval) {
+        return new AdmissionController(minLimit, maxLimit, readShare, targetAcquireLatency, sampleInterval);
+    }
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(
+            AdmissionController admissionController,
+            @Value("${students.admission.retry-after:1s}") Duration retryAfter) {
+        FilterRegistrationBean<AdmissionControlFilter> registration =
+                new FilterRegistrationBean<>(new AdmissionControlFilter(admissionController, retryAfter));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
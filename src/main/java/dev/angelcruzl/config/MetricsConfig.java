@@ -0,0 +1,32 @@
+package dev.angelcruzl.config;
+
+import dev.angelcruzl.cache.StudentCache;
+import dev.angelcruzl.search.StudentSearchIndex;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public MeterBinder studentCacheMetrics(StudentCache cache) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, cache.nativeCache(), "students");
+    }
+
+    @Bean
+    public MeterBinder studentSearchIndexMetrics(StudentSearchIndex searchIndex) {
+        return registry -> Gauge.builder("students.search.index.size", searchIndex, StudentSearchIndex::size)
+                .description("Number of students in the in-memory search index")
+                .register(registry);
+    }
+}
@@ -0,0 +1,101 @@
+package dev.angelcruzl.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.angelcruzl.datasource.ReadYourWritesFilter;
+import dev.angelcruzl.datasource.ReplicaPool;
+import dev.angelcruzl.datasource.ReplicaReadJpaDialect;
+import dev.angelcruzl.datasource.RoutingDataSourceProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaVendorAdapter;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends read-only transactions to replicas and everything else to the primary. The lazy proxy defers
+ * fetching a connection until the first statement, by which time the transaction manager has marked the
+ * connection read-only, and then takes it from the replica pool instead of the primary. Rows read from a
+ * replica may lag, so they are never put into the second-level cache.
+ */
+@Configuration
+@ConditionalOnProperty(name = "students.datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+public class RoutingDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaPool replicaDataSource(HikariDataSource primaryDataSource, RoutingDataSourceProperties properties) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (RoutingDataSourceProperties.Replica replica : properties.getReplicas()) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + replicas.size());
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername());
+            dataSource.setPassword(replica.getPassword());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+            dataSource.setInitializationFailTimeout(-1);
+            dataSource.setReadOnly(true);
+            replicas.add(dataSource);
+        }
+
+        ReplicaPool replicaPool = new ReplicaPool(primaryDataSource, replicas, properties.getValidationTimeout());
+        replicaPool.startHealthChecks(properties.getHealthCheckInterval());
+        return replicaPool;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPool replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+
+    // Same settings as Boot's own adapter, with a dialect that keeps replica reads out of the second-level cache
+    @Bean
+    public JpaVendorAdapter jpaVendorAdapter(JpaProperties properties) {
+        HibernateJpaDialect jpaDialect = new ReplicaReadJpaDialect();
+        HibernateJpaVendorAdapter adapter = new HibernateJpaVendorAdapter() {
+            @Override
+            public HibernateJpaDialect getJpaDialect() {
+                return jpaDialect;
+            }
+        };
+        adapter.setShowSql(properties.isShowSql());
+        if (properties.getDatabase() != null) {
+            adapter.setDatabase(properties.getDatabase());
+        }
+        if (properties.getDatabasePlatform() != null) {
+            adapter.setDatabasePlatform(properties.getDatabasePlatform());
+        }
+        adapter.setGenerateDdl(properties.isGenerateDdl());
+        return adapter;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(RoutingDataSourceProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(properties.getStickyWindow()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
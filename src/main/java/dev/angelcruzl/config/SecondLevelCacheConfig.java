@@ -0,0 +1,69 @@
+package dev.angelcruzl.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import dev.angelcruzl.model.Student;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level and query cache for students, backed by Caffeine through JCache. Every application context
+ * gets its own cache manager, so contexts on different databases never share regions. Hit, miss and put counts per
+ * region are published by the Hibernate statistics metrics.
+ */
+@Configuration
+@ConditionalOnProperty(name = "students.second-level-cache.enabled", havingValue = "true")
+public class SecondLevelCacheConfig {
+
+    @Bean
+    public CacheManager hibernateCacheManager(
+            @Value("${students.second-level-cache.entity.maximum-size:10000}") long entityMaximumSize,
+            @Value("${students.second-level-cache.entity.ttl:10m}") Duration entityTtl,
+            @Value("${students.second-level-cache.query.maximum-size:10000}") long queryMaximumSize,
+            @Value("${students.second-level-cache.query.ttl:5m}") Duration queryTtl) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(URI.create("students-" + UUID.randomUUID()),
+                provider.getDefaultClassLoader());
+
+        cacheManager.createCache(Student.CACHE_REGION, region(entityMaximumSize, entityTtl));
+        cacheManager.createCache(Student.EMAIL_QUERY_CACHE_REGION, region(queryMaximumSize, queryTtl));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                region(queryMaximumSize, queryTtl));
+        // Query results are only trusted while their tables' update timestamps are known, so this region never evicts
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, region(null, null));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(Long maximumSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // Hibernate caches disassembled, immutable state, so copying entries on every read and write buys nothing
+        configuration.setStoreByValue(false);
+        configuration.setMaximumSize(maximumSize == null ? OptionalLong.empty() : OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(ttl == null ? OptionalLong.empty() : OptionalLong.of(ttl.toNanos()));
+        return configuration;
+    }
+}
@@ -0,0 +1,22 @@
+package dev.angelcruzl.config;
+
+import dev.angelcruzl.search.StudentSearchIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Keeps migrations, the entity manager factory and the search index eager when {@code spring.main.lazy-initialization}
+ * is on, so a broken schema fails the boot instead of the first request.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerPersistenceBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(FlywayMigrationInitializer.class,
+                EntityManagerFactory.class, StudentSearchIndex.class);
+    }
+}
@@ -0,0 +1,50 @@
+package dev.angelcruzl.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Logs the slowest startup steps once the application is ready. The full timeline is served by
+ * {@code /actuator/startup}.
+ */
+@Component
+public class StartupTimelineLogger implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimelineLogger.class);
+
+    private static final int SLOWEST_STEPS = 15;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (!(event.getSpringApplication().getApplicationStartup() instanceof BufferingApplicationStartup startup)
+                || !log.isInfoEnabled()) {
+            return;
+        }
+
+        StartupTimeline timeline = startup.getBufferedTimeline();
+        String slowestSteps = timeline.getEvents().stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(SLOWEST_STEPS)
+                .map(timelineEvent -> String.format("%n  %6d ms  %s%s", timelineEvent.getDuration().toMillis(),
+                        timelineEvent.getStartupStep().getName(), tags(timelineEvent.getStartupStep())))
+                .collect(Collectors.joining());
+        log.info("Ready in {} ms; slowest startup steps:{}", event.getTimeTaken().toMillis(), slowestSteps);
+    }
+
+    private static String tags(StartupStep step) {
+        String tags = StreamSupport.stream(step.getTags().spliterator(), false)
+                .map(tag -> tag.getKey() + "=" + tag.getValue())
+                .collect(Collectors.joining(", "));
+        return tags.isEmpty() ? "" : " [" + tags + "]";
+    }
+}
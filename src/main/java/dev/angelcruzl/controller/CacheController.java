@@ -0,0 +1,21 @@
+package dev.angelcruzl.controller;
+
+import dev.angelcruzl.cache.StudentCache;
+import dev.angelcruzl.dto.CacheStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/cache")
+public class CacheController {
+
+    @Autowired
+    private StudentCache studentCache;
+
+    @GetMapping("/students")
+    public CacheStatistics getStudentCacheStatistics() {
+        return CacheStatistics.of(studentCache.stats(), studentCache.size());
+    }
+}
@@ -0,0 +1,57 @@
+package dev.angelcruzl.controller;
+
+import dev.angelcruzl.dto.CursorPage;
+import dev.angelcruzl.dto.StudentView;
+import dev.angelcruzl.repository.ReactiveStudentRepository;
+import dev.angelcruzl.util.Cursors;
+import dev.angelcruzl.util.ETags;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/reactive/students")
+public class ReactiveStudentController {
+
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    @Autowired
+    private ReactiveStudentRepository repository;
+
+    @GetMapping(produces = APPLICATION_NDJSON)
+    public Flux<StudentView> streamStudents() {
+        return repository.streamAll();
+    }
+
+    @GetMapping(params = "limit")
+    public Mono<CursorPage<StudentView>> getStudentsPage(@RequestParam(value = "after", required = false) String after,
+                                                         @RequestParam("limit") int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        long afterId = after == null ? 0L : Cursors.decode(after);
+
+        return repository.findPage(afterId, limit + 1)
+                .collectList()
+                .map(students -> {
+                    if (students.size() <= limit) {
+                        return new CursorPage<>(students, null);
+                    }
+                    List<StudentView> content = students.subList(0, limit);
+                    return new CursorPage<>(content, Cursors.encode(content.get(limit - 1).id()));
+                });
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<StudentView>> getStudentById(@PathVariable("id") long studentId) {
+        return repository.findById(studentId)
+                .map(student -> ResponseEntity.ok().eTag(ETags.of(student.version())).body(student))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
@@ -1,48 +1,225 @@
 package dev.angelcruzl.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dev.angelcruzl.dto.CursorPage;
+import dev.angelcruzl.dto.ImportReport;
+import dev.angelcruzl.dto.IngestStatus;
+import dev.angelcruzl.dto.StudentView;
+import dev.angelcruzl.exception.DuplicateEmailException;
+import dev.angelcruzl.exception.ResourceConflictException;
+import dev.angelcruzl.exception.ResourceNotFoundException;
+import dev.angelcruzl.export.ExportExecutor;
 import dev.angelcruzl.model.Student;
+import dev.angelcruzl.service.StudentImportService;
+import dev.angelcruzl.service.StudentIngestService;
 import dev.angelcruzl.service.StudentService;
+import dev.angelcruzl.util.ETags;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/v1/students")
 public class StudentController {
 
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private static final String APPLICATION_MERGE_PATCH_JSON = "application/merge-patch+json";
+
+    private static final MediaType NDJSON = MediaType.parseMediaType(APPLICATION_NDJSON);
+
+    private static final int EXPORT_CHUNK_SIZE = 64 * 1024;
+
     @Autowired
     private StudentService service;
 
+    @Autowired
+    private StudentImportService importService;
+
+    @Autowired
+    private StudentIngestService ingestService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ExportExecutor exportExecutor;
+
+    @Value("${students.export.timeout:1h}")
+    private Duration exportTimeout;
+
     @GetMapping
-    public List<Student> getAllStudents() {
+    public List<StudentView> getAllStudents() {
         return service.getAllStudents();
     }
 
+    @GetMapping(params = "limit")
+    public CursorPage<StudentView> getStudentsPage(@RequestParam(value = "after", required = false) String after,
+                                                   @RequestParam("limit") int limit) {
+        return service.getStudentsPage(after, limit);
+    }
+
+    @GetMapping(params = "fields")
+    public List<Map<String, Object>> getAllStudentFields(@RequestParam("fields") Set<String> fields) {
+        return service.getAllStudentFields(fields);
+    }
+
+    @GetMapping(params = {"fields", "limit"})
+    public CursorPage<Map<String, Object>> getStudentFieldsPage(@RequestParam("fields") Set<String> fields,
+                                                                @RequestParam(value = "after", required = false)
+                                                                String after,
+                                                                @RequestParam("limit") int limit) {
+        return service.getStudentFieldsPage(fields, after, limit);
+    }
+
+    @GetMapping("/search")
+    public CursorPage<StudentView> searchStudents(@RequestParam("q") String query,
+                                                  @RequestParam(value = "after", required = false) String after,
+                                                  @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return service.searchStudents(query, after, limit);
+    }
+
+    @GetMapping("/typeahead")
+    public List<StudentView> typeahead(@RequestParam("q") String query,
+                                       @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return service.typeahead(query, limit);
+    }
+
+    @GetMapping(value = "/export", produces = APPLICATION_NDJSON)
+    public ResponseEntity<ResponseBodyEmitter> exportStudents() {
+        ObjectWriter writer = objectMapper.writerFor(Student.class);
+        // The emitter carries its own timeout, so only the export may outlive the default async timeout
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(exportTimeout.toMillis());
+        exportExecutor.execute(() -> {
+            ByteArrayOutputStream chunk = new ByteArrayOutputStream(EXPORT_CHUNK_SIZE);
+            try {
+                service.exportStudents(student -> {
+                    try {
+                        chunk.write(writer.writeValueAsBytes(student));
+                        chunk.write('\n');
+                        if (chunk.size() >= EXPORT_CHUNK_SIZE) {
+                            emitter.send(chunk.toByteArray(), NDJSON);
+                            chunk.reset();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                if (chunk.size() > 0) {
+                    emitter.send(chunk.toByteArray(), NDJSON);
+                }
+                emitter.complete();
+            } catch (IOException | RuntimeException e) {
+                emitter.completeWithError(e);
+            }
+        });
+
+        return ResponseEntity.ok().contentType(NDJSON).body(emitter);
+    }
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public Student createStudent(@RequestBody Student student) {
         return service.createStudent(student);
     }
 
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<Student> createStudents(@RequestBody List<Student> students) {
+        return service.createStudents(students);
+    }
+
+    @PostMapping("/async")
+    public ResponseEntity<IngestStatus> submitStudent(@RequestBody Student student) {
+        IngestStatus status = ingestService.submit(student);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/students/async/" + status.getTicketId()))
+                .body(status);
+    }
+
+    @GetMapping("/async/{ticketId}")
+    public ResponseEntity<IngestStatus> getIngestStatus(@PathVariable("ticketId") String ticketId) {
+        return ingestService.getStatus(ticketId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ImportReport importStudents(Reader csv) {
+        return importService.importStudents(csv);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Student> getStudentById(@PathVariable("id") long studentId) {
+    public ResponseEntity<Student> getStudentById(@PathVariable("id") long studentId,
+                                                  @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                                  String ifNoneMatch) {
         return service.getStudentById(studentId)
+                .map(student -> {
+                    String eTag = ETags.of(student.getVersion());
+                    if (ETags.matches(ifNoneMatch, eTag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<Student>build();
+                    }
+                    return withETag(student);
+                })
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getStudentFieldsById(@PathVariable("id") long studentId,
+                                                                    @RequestParam("fields") Set<String> fields) {
+        return service.getStudentFieldsById(studentId, fields)
                 .map(ResponseEntity::ok)
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<Student> updateStudent(@PathVariable("id") long studentId,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                                 String ifMatch,
                                                  @RequestBody Student updatedStudent) {
-        return service.getStudentById(studentId)
-                .map(student -> {
-                    updatedStudent.setId(student.getId());
-                    return ResponseEntity.ok(service.updateStudent(updatedStudent));
-                })
-                .orElseGet(() -> ResponseEntity.notFound().build());
+        updatedStudent.setId(studentId);
+        updatedStudent.setVersion(ETags.parseVersion(ifMatch));
+        try {
+            return withETag(service.updateStudent(updatedStudent));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (DuplicateEmailException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (ResourceConflictException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {APPLICATION_MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Student> patchStudent(@PathVariable("id") long studentId,
+                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                                String ifMatch,
+                                                @RequestBody Map<String, Object> patch) {
+        try {
+            return withETag(service.patchStudent(studentId, ETags.parseVersion(ifMatch), patch));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (DuplicateEmailException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (ResourceConflictException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
     }
 
     @DeleteMapping("/{id}")
@@ -50,4 +227,23 @@ public class StudentController {
         service.deleteStudent(studentId);
         return ResponseEntity.ok("Student with id " + studentId + " deleted successfully");
     }
+
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<String> deleteStudents(@RequestParam("ids") List<Long> studentIds) {
+        int deletedStudents = service.deleteStudents(studentIds);
+        return ResponseEntity.ok(deletedStudents + " students deleted successfully");
+    }
+
+    // Tens of thousands of ids don't fit in a query string, so large deletes send them as a JSON array
+    @PostMapping("/delete")
+    public ResponseEntity<String> deleteStudentsInBody(@RequestBody List<Long> studentIds) {
+        return deleteStudents(studentIds);
+    }
+
+    private static ResponseEntity<Student> withETag(Student student) {
+        if (student.getVersion() == null) {
+            return ResponseEntity.ok(student);
+        }
+        return ResponseEntity.ok().eTag(ETags.of(student.getVersion())).body(student);
+    }
 }
@@ -0,0 +1,41 @@
+package dev.angelcruzl.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks the current thread as needing the primary database, so reads issued after a write see that write
+ * even when they run in read-only transactions.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void pinToPrimary() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+
+    public static void clear() {
+        PINNED.remove();
+    }
+
+    // Runs a read that fills a cache shared by every client, so it must not see a lagging replica.
+    public static <T> T onPrimary(Supplier<T> read) {
+        if (isPinned()) {
+            return read.get();
+        }
+
+        pinToPrimary();
+        try {
+            return read.get();
+        } finally {
+            clear();
+        }
+    }
+}
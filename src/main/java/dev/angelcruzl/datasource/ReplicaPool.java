@@ -0,0 +1,147 @@
+package dev.angelcruzl.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Hands out connections from healthy replicas in round-robin order. It falls back to the primary when
+ * the current thread must read its own writes or when no replica passed its last health check.
+ */
+public class ReplicaPool extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaPool.class);
+
+    private final DataSource primary;
+
+    private final List<DataSource> replicas;
+
+    private final AtomicIntegerArray healthy;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final int validationTimeoutSeconds;
+
+    private ScheduledExecutorService healthChecker;
+
+    public ReplicaPool(DataSource primary, List<DataSource> replicas, Duration validationTimeout) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.healthy = new AtomicIntegerArray(replicas.size());
+        this.validationTimeoutSeconds = (int) Math.max(1, validationTimeout.toSeconds());
+        for (int i = 0; i < replicas.size(); i++) {
+            healthy.set(i, 1);
+        }
+    }
+
+    public void startHealthChecks(Duration interval) {
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void checkHealth() {
+        for (int i = 0; i < replicas.size(); i++) {
+            boolean valid;
+            try (Connection connection = replicas.get(i).getConnection()) {
+                valid = connection.isValid(validationTimeoutSeconds);
+            } catch (SQLException | RuntimeException e) {
+                valid = false;
+            }
+
+            if (valid) {
+                if (healthy.getAndSet(i, 1) == 0) {
+                    log.info("Replica {} is healthy again", i);
+                }
+            } else {
+                markDown(i);
+            }
+        }
+    }
+
+    public int healthyReplicas() {
+        int count = 0;
+        for (int i = 0; i < healthy.length(); i++) {
+            count += healthy.get(i);
+        }
+        return count;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        int replica = select();
+        if (replica < 0) {
+            return primary.getConnection();
+        }
+
+        try {
+            return replicas.get(replica).getConnection();
+        } catch (SQLException | RuntimeException e) {
+            markDown(replica);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        int replica = select();
+        if (replica < 0) {
+            return primary.getConnection(username, password);
+        }
+
+        try {
+            return replicas.get(replica).getConnection(username, password);
+        } catch (SQLException | RuntimeException e) {
+            markDown(replica);
+            return primary.getConnection(username, password);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    // Index of the replica to read from, or -1 for the primary.
+    private int select() {
+        if (ReadYourWrites.isPinned() || replicas.isEmpty()) {
+            return -1;
+        }
+
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            int index = (start + i) % replicas.size();
+            if (healthy.get(index) == 1) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private void markDown(int replica) {
+        if (healthy.getAndSet(replica, 0) == 1) {
+            log.warn("Replica {} is unavailable, reads will use other replicas or the primary", replica);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package dev.angelcruzl.datasource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import java.sql.SQLException;
+
+/**
+ * Keeps replica reads out of the second-level cache. A read-only transaction that is not pinned to the primary
+ * may read from a lagging replica, so its session still reads cached entities and query results but never puts
+ * what it loaded, and the next primary read fills the cache instead.
+ */
+public class ReplicaReadJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly() || ReadYourWrites.isPinned()) {
+            return transactionData;
+        }
+
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previousCacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        return new ReplicaReadData(transactionData, session, previousCacheMode);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReplicaReadData replicaRead) {
+            replicaRead.session().setCacheMode(replicaRead.previousCacheMode());
+            super.cleanupTransaction(replicaRead.transactionData());
+            return;
+        }
+        super.cleanupTransaction(transactionData);
+    }
+
+    private record ReplicaReadData(Object transactionData, Session session, CacheMode previousCacheMode) {
+    }
+}
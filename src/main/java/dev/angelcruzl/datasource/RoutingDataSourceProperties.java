@@ -0,0 +1,38 @@
+package dev.angelcruzl.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties("students.datasource.routing")
+public class RoutingDataSourceProperties {
+    private boolean enabled;
+
+    private Duration stickyWindow = Duration.ofSeconds(5);
+
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    private Duration validationTimeout = Duration.ofSeconds(1);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private int maximumPoolSize = 10;
+
+        private Duration connectionTimeout = Duration.ofSeconds(2);
+    }
+}
@@ -0,0 +1,23 @@
+package dev.angelcruzl.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CacheStatistics {
+    private long size;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long evictionCount;
+
+    private double hitRate;
+
+    public static CacheStatistics of(CacheStats stats, long size) {
+        return new CacheStatistics(size, stats.hitCount(), stats.missCount(), stats.evictionCount(), stats.hitRate());
+    }
+}
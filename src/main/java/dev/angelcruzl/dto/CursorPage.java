@@ -0,0 +1,14 @@
+package dev.angelcruzl.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+
+    private String nextCursor;
+}
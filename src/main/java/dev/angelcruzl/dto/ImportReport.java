@@ -0,0 +1,37 @@
+package dev.angelcruzl.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class ImportReport {
+    private static final int MAX_REPORTED_REJECTS = 1000;
+
+    private long imported;
+
+    private long rejected;
+
+    private final List<RowReject> rejects = new ArrayList<>();
+
+    public void addImported(long count) {
+        imported += count;
+    }
+
+    public void addReject(long line, String reason) {
+        rejected++;
+        if (rejects.size() < MAX_REPORTED_REJECTS) {
+            rejects.add(new RowReject(line, reason));
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowReject {
+        private long line;
+
+        private String reason;
+    }
+}
@@ -0,0 +1,32 @@
+package dev.angelcruzl.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class IngestStatus {
+    public enum State {
+        PENDING, CREATED, REJECTED
+    }
+
+    private String ticketId;
+
+    private State state;
+
+    private Long studentId;
+
+    private String reason;
+
+    public static IngestStatus pending(String ticketId) {
+        return new IngestStatus(ticketId, State.PENDING, null, null);
+    }
+
+    public static IngestStatus created(String ticketId, Long studentId) {
+        return new IngestStatus(ticketId, State.CREATED, studentId, null);
+    }
+
+    public static IngestStatus rejected(String ticketId, String reason) {
+        return new IngestStatus(ticketId, State.REJECTED, null, reason);
+    }
+}
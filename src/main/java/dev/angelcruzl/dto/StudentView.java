@@ -0,0 +1,4 @@
+package dev.angelcruzl.dto;
+
+public record StudentView(Long id, String firstName, String lastName, String email, Long version) {
+}
@@ -0,0 +1,7 @@
+package dev.angelcruzl.exception;
+
+public class DuplicateEmailException extends ResourceConflictException {
+    public DuplicateEmailException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package dev.angelcruzl.exception;
+
+public class IngestQueueFullException extends RuntimeException {
+    public IngestQueueFullException(String message) {
+        super(message);
+    }
+}
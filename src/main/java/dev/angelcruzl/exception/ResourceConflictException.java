@@ -0,0 +1,11 @@
+package dev.angelcruzl.exception;
+
+public class ResourceConflictException extends RuntimeException {
+    public ResourceConflictException(String message) {
+        super(message);
+    }
+
+    public ResourceConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,52 @@
+package dev.angelcruzl.exception;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class RestExceptionHandler {
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException ex) {
+        return ResponseEntity.badRequest().body(ex.getMessage());
+    }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<String> handleBulkheadFull(BulkheadFullException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ex.getMessage());
+    }
+
+    // A transaction that can't get a connection, whether from the bulkhead or the pool, is worth retrying later
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<String> handleCannotCreateTransaction(CannotCreateTransactionException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ex.getMostSpecificCause().getMessage());
+    }
+
+    @ExceptionHandler(IngestQueueFullException.class)
+    public ResponseEntity<String> handleIngestQueueFull(IngestQueueFullException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ex.getMessage());
+    }
+
+    // Exports run for minutes, so there is no point retrying within a second
+    @ExceptionHandler(ExportCapacityExceededException.class)
+    public ResponseEntity<String> handleExportCapacityExceeded(ExportCapacityExceededException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "60")
+                .body(ex.getMessage());
+    }
+
+    @ExceptionHandler(SqlBudgetExceededException.class)
+    public ResponseEntity<String> handleSqlBudgetExceeded(SqlBudgetExceededException ex) {
+        return ResponseEntity.internalServerError().body(ex.getMessage());
+    }
+}
@@ -0,0 +1,7 @@
+package dev.angelcruzl.exception;
+
+public class SqlBudgetExceededException extends RuntimeException {
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,55 @@
+package dev.angelcruzl.export;
+
+import dev.angelcruzl.exception.ExportCapacityExceededException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs full exports on their own few threads. An export can stream for an hour while holding a connection and
+ * a database permit, so it must not queue behind or starve the shared async executor. Exports never wait for a
+ * slot: when every slot is busy the export is rejected at once and the client gets a 503 instead of no bytes.
+ */
+@Component
+public class ExportExecutor implements DisposableBean {
+
+    private final Semaphore slots;
+
+    private final int maxConcurrent;
+
+    private final ExecutorService executor;
+
+    public ExportExecutor(@Value("${students.export.max-concurrent:2}") int maxConcurrent) {
+        this.slots = new Semaphore(maxConcurrent);
+        this.maxConcurrent = maxConcurrent;
+        this.executor = Executors.newFixedThreadPool(maxConcurrent, new CustomizableThreadFactory("student-export-"));
+    }
+
+    public void execute(Runnable export) {
+        if (!slots.tryAcquire()) {
+            throw new ExportCapacityExceededException("All " + maxConcurrent + " export slots are in use");
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    export.run();
+                } finally {
+                    slots.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            slots.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
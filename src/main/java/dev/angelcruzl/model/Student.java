@@ -1,7 +1,13 @@
 package dev.angelcruzl.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.util.Locale;
 
 @Getter
 @Setter
@@ -9,10 +15,23 @@ import lombok.*;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "students")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Student.CACHE_REGION)
+@DynamicUpdate
+@Table(name = "students", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_students_email", columnNames = "email"),
+        @UniqueConstraint(name = "uk_students_email_key", columnNames = "email_key")
+})
 public class Student {
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    public static final String CACHE_REGION = "students";
+
+    public static final String EMAIL_QUERY_CACHE_REGION = "students-by-email";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "students_seq")
+    @SequenceGenerator(name = "students_seq", sequenceName = "students_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "first_name", nullable = false)
@@ -23,4 +42,22 @@ public class Student {
 
     @Column(name = "email", nullable = false)
     private String email;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @JsonIgnore
+    @Column(name = "email_key", nullable = false)
+    private String emailKey;
+
+    public static String emailKeyOf(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @PrePersist
+    @PreUpdate
+    void updateEmailKey() {
+        emailKey = emailKeyOf(email);
+    }
 }
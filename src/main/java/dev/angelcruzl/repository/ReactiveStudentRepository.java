@@ -0,0 +1,81 @@
+package dev.angelcruzl.repository;
+
+import dev.angelcruzl.dto.StudentView;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking reads of the students table over R2DBC. The connection pool is kept out of the
+ * application context on purpose: a ConnectionFactory bean would make Spring Boot back off from
+ * creating the JDBC DataSource that JPA and StudentRepository run on.
+ */
+@Repository
+public class ReactiveStudentRepository implements DisposableBean {
+
+    private static final String COLUMNS = "select id, first_name, last_name, email, version from students ";
+
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final ConnectionPool connectionPool;
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveStudentRepository(@Value("${students.reactive.r2dbc.url}") String url,
+                                     @Value("${students.reactive.r2dbc.username:}") String username,
+                                     @Value("${students.reactive.r2dbc.password:}") String password,
+                                     @Value("${students.reactive.r2dbc.pool.max-size:20}") int maxSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .maxSize(maxSize)
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+    }
+
+    public Mono<StudentView> findById(Long id) {
+        return databaseClient.sql(COLUMNS + "where id = :id")
+                .bind("id", id)
+                .map(ReactiveStudentRepository::toView)
+                .one();
+    }
+
+    public Flux<StudentView> findPage(long afterId, int limit) {
+        return databaseClient.sql(COLUMNS + "where id > :afterId order by id limit :limit")
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(ReactiveStudentRepository::toView)
+                .all();
+    }
+
+    public Flux<StudentView> streamAll() {
+        return databaseClient.sql(COLUMNS + "order by id")
+                .filter((statement, next) -> next.execute(statement.fetchSize(STREAM_FETCH_SIZE)))
+                .map(ReactiveStudentRepository::toView)
+                .all();
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    private static StudentView toView(Readable row) {
+        return new StudentView(
+                row.get("id", Long.class),
+                row.get("first_name", String.class),
+                row.get("last_name", String.class),
+                row.get("email", String.class),
+                row.get("version", Long.class));
+    }
+}
@@ -1,12 +1,68 @@
 package dev.angelcruzl.repository;
 
+import dev.angelcruzl.dto.StudentView;
 import dev.angelcruzl.model.Student;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface StudentRepository extends JpaRepository<Student, Long> {
+public interface StudentRepository extends JpaRepository<Student, Long>, StudentRepositoryCustom {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Student.EMAIL_QUERY_CACHE_REGION)
+    })
     Optional<Student> findByEmail(String email);
+
+    @Query("select s.emailKey from Student s where s.emailKey in :emailKeys")
+    List<String> findExistingEmailKeys(@Param("emailKeys") Collection<String> emailKeys);
+
+    List<StudentView> findAllByOrderByIdAsc();
+
+    List<StudentView> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    List<StudentView> findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(Long after, Long to);
+
+    @Query("select s.version from Student s where s.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("select coalesce(max(s.id), 0) from Student s")
+    long findMaxId();
+
+    // Prefix matches and the remaining substring matches are read as two id-ordered keyset scans,
+    // so a page never has to sort every match the way a ranked ORDER BY with OFFSET does.
+    @Query("select new dev.angelcruzl.dto.StudentView(s.id, s.firstName, s.lastName, s.email, s.version) "
+            + "from Student s "
+            + "where (lower(s.firstName) like :prefix escape '!' or lower(s.lastName) like :prefix escape '!' "
+            + "or s.emailKey like :prefix escape '!') and s.id > :after "
+            + "order by s.id")
+    List<StudentView> searchByPrefix(@Param("prefix") String prefix, @Param("after") Long after, Limit limit);
+
+    @Query("select new dev.angelcruzl.dto.StudentView(s.id, s.firstName, s.lastName, s.email, s.version) "
+            + "from Student s "
+            + "where (lower(s.firstName) like :pattern escape '!' or lower(s.lastName) like :pattern escape '!' "
+            + "or s.emailKey like :pattern escape '!') "
+            + "and not (lower(s.firstName) like :prefix escape '!' or lower(s.lastName) like :prefix escape '!' "
+            + "or s.emailKey like :prefix escape '!') and s.id > :after "
+            + "order by s.id")
+    List<StudentView> searchBySubstring(@Param("pattern") String pattern, @Param("prefix") String prefix,
+                                        @Param("after") Long after, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select s from Student s order by s.id")
+    Stream<Student> streamAll();
 }
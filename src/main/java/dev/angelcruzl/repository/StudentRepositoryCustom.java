@@ -0,0 +1,25 @@
+package dev.angelcruzl.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface StudentRepositoryCustom {
+    int updateById(Long id, String firstName, String lastName, String email, String emailKey);
+
+    Optional<Long> updateByIdReturningVersion(Long id, String firstName, String lastName, String email,
+                                              String emailKey);
+
+    int updateByIdAndVersion(Long id, Long version, String firstName, String lastName, String email, String emailKey);
+
+    int updateFields(Long id, Long version, Map<String, Object> fields);
+
+    int deleteStudentById(Long id);
+
+    int deleteStudentsByIdIn(Collection<Long> ids);
+
+    List<Map<String, Object>> findFields(Collection<String> fields, Long afterId, Integer limit);
+
+    List<Map<String, Object>> findFieldsById(Long id, Collection<String> fields);
+}
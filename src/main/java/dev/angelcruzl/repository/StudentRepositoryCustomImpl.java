@@ -0,0 +1,225 @@
+package dev.angelcruzl.repository;
+
+import dev.angelcruzl.model.Student;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.Cache;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+public class StudentRepositoryCustomImpl implements StudentRepositoryCustom {
+
+    // Row writes declare a query space no entity maps to, so Hibernate doesn't drop the whole students region
+    // the way it does for bulk JPQL and Criteria statements; the rows they touch are evicted one by one instead.
+    private static final String ROW_WRITE_SPACE = "students_row_writes";
+
+    private static final Map<String, String> UPDATABLE_COLUMNS = Map.of(
+            "firstName", "first_name",
+            "lastName", "last_name",
+            "email", "email",
+            "emailKey", "email_key");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgreSQL;
+
+    @Override
+    @Transactional
+    public int updateById(Long id, String firstName, String lastName, String email, String emailKey) {
+        return updateFields(id, null, studentFields(firstName, lastName, email, emailKey));
+    }
+
+    // PostgreSQL hands back the new version from the update itself; other databases read it in a second statement
+    // while the update still holds the row lock, so no other transaction can have changed it in between.
+    @Override
+    @Transactional
+    public Optional<Long> updateByIdReturningVersion(Long id, String firstName, String lastName, String email,
+                                                     String emailKey) {
+        Map<String, Object> fields = studentFields(firstName, lastName, email, emailKey);
+        if (!isPostgreSQL()) {
+            if (updateFields(id, null, fields) == 0) {
+                return Optional.empty();
+            }
+            List<?> versions = entityManager.createNativeQuery("select version from students where id = :id")
+                    .setParameter("id", id)
+                    .getResultList();
+            return versions.stream().findFirst().map(version -> ((Number) version).longValue());
+        }
+
+        Query update = rowWrite(updateSql(fields, null) + " returning version").setParameter("id", id);
+        fields.forEach(update::setParameter);
+        List<?> versions = update.getResultList();
+        afterWrite(List.of(id));
+        return versions.stream().findFirst().map(version -> ((Number) version).longValue());
+    }
+
+    @Override
+    @Transactional
+    public int updateByIdAndVersion(Long id, Long version, String firstName, String lastName, String email,
+                                    String emailKey) {
+        return updateFields(id, version, studentFields(firstName, lastName, email, emailKey));
+    }
+
+    @Override
+    @Transactional
+    public int updateFields(Long id, Long version, Map<String, Object> fields) {
+        Query update = rowWrite(updateSql(fields, version)).setParameter("id", id);
+        fields.forEach(update::setParameter);
+        if (version != null) {
+            update.setParameter("version", version);
+        }
+        return execute(update, List.of(id));
+    }
+
+    @Override
+    @Transactional
+    public int deleteStudentById(Long id) {
+        return execute(rowWrite("delete from students where id = :id").setParameter("id", id), List.of(id));
+    }
+
+    @Override
+    @Transactional
+    public int deleteStudentsByIdIn(Collection<Long> ids) {
+        return execute(rowWrite("delete from students where id in (:ids)").setParameter("ids", ids), ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findFields(Collection<String> fields, Long afterId, Integer limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Student> root = query.from(Student.class);
+
+        query.multiselect(selections(root, fields));
+        if (afterId != null) {
+            query.where(builder.greaterThan(root.get("id"), afterId));
+        }
+        query.orderBy(builder.asc(root.get("id")));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (limit != null) {
+            typedQuery.setMaxResults(limit);
+        }
+        return toMaps(typedQuery.getResultList(), fields);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findFieldsById(Long id, Collection<String> fields) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Student> root = query.from(Student.class);
+
+        query.multiselect(selections(root, fields));
+        query.where(builder.equal(root.get("id"), id));
+
+        return toMaps(entityManager.createQuery(query).getResultList(), fields);
+    }
+
+    private static String updateSql(Map<String, Object> fields, Long version) {
+        StringJoiner assignments = new StringJoiner(", ", "update students set ", ", version = version + 1");
+        fields.keySet().forEach(name -> {
+            String column = UPDATABLE_COLUMNS.get(name);
+            if (column == null) {
+                throw new IllegalArgumentException("Field " + name + " cannot be updated");
+            }
+            assignments.add(column + " = :" + name);
+        });
+        return assignments + " where id = :id" + (version == null ? "" : " and version = :version");
+    }
+
+    private boolean isPostgreSQL() {
+        Boolean postgreSQL = this.postgreSQL;
+        if (postgreSQL == null) {
+            postgreSQL = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+            this.postgreSQL = postgreSQL;
+        }
+        return postgreSQL;
+    }
+
+    private Query rowWrite(String sql) {
+        entityManager.flush();
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(ROW_WRITE_SPACE);
+    }
+
+    private int execute(Query write, Collection<Long> ids) {
+        int rows = write.executeUpdate();
+        afterWrite(ids);
+        return rows;
+    }
+
+    private void afterWrite(Collection<Long> ids) {
+        entityManager.clear();
+
+        // Evict again once the transaction ends, so a concurrent read can't put back the row it loaded before commit
+        Cache cache = entityManager.getEntityManagerFactory().getCache().unwrap(Cache.class);
+        evict(cache, ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(cache, ids);
+                }
+            });
+        }
+    }
+
+    // Cached email lookups can point at any of these rows, and their update timestamps weren't bumped
+    private static void evict(Cache cache, Collection<Long> ids) {
+        ids.forEach(id -> cache.evictEntityData(Student.class, id));
+        cache.evictQueryRegion(Student.EMAIL_QUERY_CACHE_REGION);
+    }
+
+    private static Map<String, Object> studentFields(String firstName, String lastName, String email,
+                                                     String emailKey) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("firstName", firstName);
+        fields.put("lastName", lastName);
+        fields.put("email", email);
+        fields.put("emailKey", emailKey);
+        return fields;
+    }
+
+    private static List<Selection<?>> selections(Root<Student> root, Collection<String> fields) {
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            selections.add(root.get(field).alias(field));
+        }
+        return selections;
+    }
+
+    private static List<Map<String, Object>> toMaps(List<Tuple> tuples, Collection<String> fields) {
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : fields) {
+                row.put(field, tuple.get(field));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
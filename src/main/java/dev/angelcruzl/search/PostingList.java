@@ -0,0 +1,111 @@
+package dev.angelcruzl.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Sorted ids for one trigram. Removing an id only marks its slot, so an update never shifts a list that can be as
+ * long as the table; the marked slots are dropped in one pass once they make up a quarter of the list. Ids are
+ * assigned in increasing order, so new students are appended and only out-of-order inserts pay for a copy.
+ */
+final class PostingList {
+
+    private static final int MIN_COMPACTION_TOMBSTONES = 16;
+
+    private long[] ids = new long[4];
+
+    private final BitSet tombstones = new BitSet();
+
+    private int slots;
+
+    private int tombstoneCount;
+
+    void add(long id) {
+        if (slots == 0 || ids[slots - 1] < id) {
+            ensureCapacity();
+            ids[slots++] = id;
+            return;
+        }
+
+        int index = Arrays.binarySearch(ids, 0, slots, id);
+        if (index >= 0) {
+            if (tombstones.get(index)) {
+                tombstones.clear(index);
+                tombstoneCount--;
+            }
+            return;
+        }
+
+        // Shifting would also have to shift the tombstone bits, so drop them first
+        compact();
+        int insertAt = -Arrays.binarySearch(ids, 0, slots, id) - 1;
+        ensureCapacity();
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, slots - insertAt);
+        ids[insertAt] = id;
+        slots++;
+    }
+
+    void remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, slots, id);
+        if (index < 0 || tombstones.get(index)) {
+            return;
+        }
+
+        tombstones.set(index);
+        tombstoneCount++;
+        if (tombstoneCount >= MIN_COMPACTION_TOMBSTONES && tombstoneCount * 4 >= slots) {
+            compact();
+        }
+    }
+
+    boolean contains(long id) {
+        int index = Arrays.binarySearch(ids, 0, slots, id);
+        return index >= 0 && !tombstones.get(index);
+    }
+
+    // Slots include removed ids; callers iterating by slot skip the ones that are not live
+    int slots() {
+        return slots;
+    }
+
+    boolean isLive(int slot) {
+        return !tombstones.get(slot);
+    }
+
+    long get(int slot) {
+        return ids[slot];
+    }
+
+    int size() {
+        return slots - tombstoneCount;
+    }
+
+    void trimToSize() {
+        compact();
+        if (ids.length > slots) {
+            ids = Arrays.copyOf(ids, Math.max(slots, 1));
+        }
+    }
+
+    private void compact() {
+        if (tombstoneCount == 0) {
+            return;
+        }
+
+        int live = 0;
+        for (int slot = 0; slot < slots; slot++) {
+            if (!tombstones.get(slot)) {
+                ids[live++] = ids[slot];
+            }
+        }
+        slots = live;
+        tombstones.clear();
+        tombstoneCount = 0;
+    }
+
+    private void ensureCapacity() {
+        if (slots == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length + Math.max(1, ids.length >> 1));
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package dev.angelcruzl.search;
+
+import dev.angelcruzl.dto.StudentView;
+import dev.angelcruzl.model.Student;
+import dev.angelcruzl.repository.StudentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index over student names and emails. Every field is indexed with pg_trgm style
+ * padding ("  value"), so queries of three or more characters match substrings and shorter queries
+ * match field prefixes. Candidates are verified against the stored view, so no query reaches the database.
+ */
+@Component
+public class StudentSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentSearchIndex.class);
+
+    private static final int GRAM_SIZE = 3;
+
+    private static final String PADDING = "  ";
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::rank)
+            .thenComparing(hit -> hit.student().lastName(), Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(hit -> hit.student().firstName(), Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(hit -> hit.student().id());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, PostingList> postings = new HashMap<>();
+
+    private final Map<Long, StudentView> documents = new HashMap<>();
+
+    // Ids written through the service while the startup scan runs; the scan must not overwrite them
+    // with the (possibly older) rows it read.
+    private final Set<Long> writtenWhileLoading = new HashSet<>();
+
+    private final StudentRepository repository;
+
+    private final boolean enabled;
+
+    private final int loadThreads;
+
+    private final long segmentSize;
+
+    private boolean loading;
+
+    private volatile boolean ready;
+
+    public StudentSearchIndex(StudentRepository repository,
+                              @Value("${students.search.index.enabled:true}") boolean enabled,
+                              @Value("${students.search.index.load-threads:4}") int loadThreads,
+                              @Value("${students.search.index.segment-size:50000}") long segmentSize) {
+        this.repository = repository;
+        this.enabled = enabled;
+        this.loadThreads = loadThreads;
+        this.segmentSize = segmentSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+
+        Thread loader = new Thread(this::load, "student-search-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    public void load() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            loading = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(loadThreads);
+        try {
+            long maxId = repository.findMaxId();
+            List<Future<List<StudentView>>> segments = new ArrayList<>();
+            for (long after = 0; after < maxId; after += segmentSize) {
+                long from = after;
+                long to = Math.min(after + segmentSize, maxId);
+                segments.add(executor.submit(() -> repository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(from, to)));
+            }
+
+            for (Future<List<StudentView>> segment : segments) {
+                List<StudentView> students = segment.get();
+                lock.writeLock().lock();
+                try {
+                    for (StudentView student : students) {
+                        if (!writtenWhileLoading.contains(student.id())) {
+                            replace(student.id(), student);
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+
+            lock.writeLock().lock();
+            try {
+                postings.values().forEach(PostingList::trimToSize);
+                writtenWhileLoading.clear();
+                loading = false;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Indexed {} students in {} ms", size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Student search index load was interrupted");
+        } catch (ExecutionException | RuntimeException e) {
+            log.error("Could not load the student search index, searches will use the database", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(Student student) {
+        StudentView view = new StudentView(student.getId(), student.getFirstName(), student.getLastName(),
+                student.getEmail(), student.getVersion());
+        afterCommit(() -> write(view.id(), view));
+    }
+
+    public void remove(Long id) {
+        afterCommit(() -> write(id, null));
+    }
+
+    public List<StudentView> search(String query, int limit) {
+        String term = query.trim().toLowerCase(Locale.ROOT);
+        if (term.isEmpty()) {
+            return List.of();
+        }
+
+        long[] grams = grams(term.length() < GRAM_SIZE ? PADDING + term : term);
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+
+        lock.readLock().lock();
+        try {
+            PostingList[] lists = new PostingList[grams.length];
+            for (int i = 0; i < grams.length; i++) {
+                lists[i] = postings.get(grams[i]);
+                if (lists[i] == null) {
+                    return List.of();
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(PostingList::size));
+
+            PostingList smallest = lists[0];
+            for (int slot = 0; slot < smallest.slots(); slot++) {
+                if (!smallest.isLive(slot)) {
+                    continue;
+                }
+                long id = smallest.get(slot);
+                if (!containsAll(lists, id)) {
+                    continue;
+                }
+
+                StudentView student = documents.get(id);
+                int rank = rank(student, term);
+                if (rank >= 0) {
+                    top.offer(new Hit(rank, student));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(RANKING);
+        return hits.stream().map(Hit::student).toList();
+    }
+
+    private void write(Long id, StudentView student) {
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                writtenWhileLoading.add(id);
+            }
+            replace(id, student);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Only the grams that differ between the old and new text are touched, so changing an email leaves the
+    // lists of shared grams such as "com" alone.
+    private void replace(Long id, StudentView student) {
+        StudentView previous = student == null ? documents.remove(id) : documents.put(id, student);
+        long[] oldGrams = previous == null ? new long[0] : documentGrams(previous);
+        long[] newGrams = student == null ? new long[0] : documentGrams(student);
+
+        for (long gram : oldGrams) {
+            if (Arrays.binarySearch(newGrams, gram) < 0) {
+                PostingList list = postings.get(gram);
+                if (list != null) {
+                    list.remove(id);
+                    if (list.size() == 0) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+        for (long gram : newGrams) {
+            if (Arrays.binarySearch(oldGrams, gram) < 0) {
+                postings.computeIfAbsent(gram, key -> new PostingList()).add(id);
+            }
+        }
+    }
+
+    private static boolean containsAll(PostingList[] lists, long id) {
+        for (int i = 1; i < lists.length; i++) {
+            if (!lists[i].contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 0 for a field prefix match, 1 for a substring match, -1 when the trigrams matched but the text does not.
+    private static int rank(StudentView student, String term) {
+        int rank = -1;
+        for (String field : fields(student)) {
+            if (field.startsWith(term)) {
+                return 0;
+            }
+            if (term.length() >= GRAM_SIZE && field.contains(term)) {
+                rank = 1;
+            }
+        }
+        return rank;
+    }
+
+    private static long[] documentGrams(StudentView student) {
+        long[] grams = new long[0];
+        for (String field : fields(student)) {
+            long[] fieldGrams = grams(PADDING + field);
+            int offset = grams.length;
+            grams = Arrays.copyOf(grams, offset + fieldGrams.length);
+            System.arraycopy(fieldGrams, 0, grams, offset, fieldGrams.length);
+        }
+        return Arrays.stream(grams).sorted().distinct().toArray();
+    }
+
+    private static long[] grams(String text) {
+        int count = Math.max(0, text.length() - GRAM_SIZE + 1);
+        long[] grams = new long[count];
+        for (int i = 0; i < count; i++) {
+            grams[i] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    private static List<String> fields(StudentView student) {
+        List<String> fields = new ArrayList<>(3);
+        for (String field : new String[]{student.firstName(), student.lastName(), student.email()}) {
+            if (field != null) {
+                fields.add(field.toLowerCase(Locale.ROOT));
+            }
+        }
+        return fields;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Hit(int rank, StudentView student) {
+    }
+}
@@ -0,0 +1,9 @@
+package dev.angelcruzl.service;
+
+import dev.angelcruzl.dto.ImportReport;
+
+import java.io.Reader;
+
+public interface StudentImportService {
+    ImportReport importStudents(Reader csv);
+}
@@ -0,0 +1,12 @@
+package dev.angelcruzl.service;
+
+import dev.angelcruzl.dto.IngestStatus;
+import dev.angelcruzl.model.Student;
+
+import java.util.Optional;
+
+public interface StudentIngestService {
+    IngestStatus submit(Student student);
+
+    Optional<IngestStatus> getStatus(String ticketId);
+}
@@ -1,18 +1,43 @@
 package dev.angelcruzl.service;
 
+import dev.angelcruzl.dto.CursorPage;
+import dev.angelcruzl.dto.StudentView;
 import dev.angelcruzl.model.Student;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface StudentService {
-    List<Student> getAllStudents();
+    List<StudentView> getAllStudents();
+
+    CursorPage<StudentView> getStudentsPage(String cursor, int limit);
+
+    List<Map<String, Object>> getAllStudentFields(Set<String> fields);
+
+    CursorPage<Map<String, Object>> getStudentFieldsPage(Set<String> fields, String cursor, int limit);
+
+    Optional<Map<String, Object>> getStudentFieldsById(Long id, Set<String> fields);
+
+    CursorPage<StudentView> searchStudents(String query, String cursor, int limit);
+
+    List<StudentView> typeahead(String query, int limit);
+
+    void exportStudents(Consumer<Student> consumer);
 
     Student createStudent(Student student);
 
+    List<Student> createStudents(List<Student> students);
+
     Optional<Student> getStudentById(Long id);
 
     Student updateStudent(Student student);
 
+    Student patchStudent(Long id, Long version, Map<String, Object> patch);
+
     void deleteStudent(Long id);
+
+    int deleteStudents(List<Long> ids);
 }
@@ -0,0 +1,274 @@
+package dev.angelcruzl.service.impl;
+
+import dev.angelcruzl.dto.ImportReport;
+import dev.angelcruzl.model.Student;
+import dev.angelcruzl.repository.StudentRepository;
+import dev.angelcruzl.search.StudentSearchIndex;
+import dev.angelcruzl.service.StudentImportService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Cache;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@Timed(value = "students.service", histogram = true)
+public class StudentImportServiceImpl implements StudentImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String HEADER = "first_name,last_name,email";
+
+    private static final String COPY_SQL = "COPY students (id, first_name, last_name, email, email_key, version) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String RESERVE_IDS_SQL = "select nextval('students_seq') from generate_series(1, ?)";
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private StudentSearchIndex searchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgres;
+
+    @Override
+    public ImportReport importStudents(Reader csv) {
+        ImportReport report = new ImportReport();
+        Set<String> seenEmails = new HashSet<>();
+        List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (BufferedReader reader = new BufferedReader(csv)) {
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && line.trim().equalsIgnoreCase(HEADER))) {
+                    continue;
+                }
+
+                Student student = parseStudent(line, lineNumber, report);
+                if (student == null) {
+                    continue;
+                }
+                if (!seenEmails.add(Student.emailKeyOf(student.getEmail()))) {
+                    report.addReject(lineNumber, "email " + student.getEmail() + " is repeated in the file");
+                    continue;
+                }
+
+                chunk.add(new Row(lineNumber, student));
+                if (chunk.size() == CHUNK_SIZE) {
+                    loadChunk(chunk, report);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (!chunk.isEmpty()) {
+            loadChunk(chunk, report);
+        }
+
+        return report;
+    }
+
+    private Student parseStudent(String line, long lineNumber, ImportReport report) {
+        List<String> fields = parseCsvLine(line);
+        if (fields == null) {
+            report.addReject(lineNumber, "malformed quoted field");
+            return null;
+        }
+        if (fields.size() != 3) {
+            report.addReject(lineNumber, "expected 3 columns but found " + fields.size());
+            return null;
+        }
+
+        String[] columns = HEADER.split(",");
+        for (int i = 0; i < columns.length; i++) {
+            if (fields.get(i).isBlank()) {
+                report.addReject(lineNumber, "missing " + columns[i]);
+                return null;
+            }
+        }
+
+        return Student.builder()
+                .firstName(fields.get(0).trim())
+                .lastName(fields.get(1).trim())
+                .email(fields.get(2).trim())
+                .build();
+    }
+
+    private void loadChunk(List<Row> chunk, ImportReport report) {
+        List<Row> existing = new ArrayList<>();
+        try {
+            List<Row> accepted = transactionTemplate.execute(status -> {
+                List<String> emailKeys = chunk.stream().map(row -> Student.emailKeyOf(row.student().getEmail())).toList();
+                Set<String> existingEmailKeys = new HashSet<>(repository.findExistingEmailKeys(emailKeys));
+
+                List<Row> rows = new ArrayList<>(chunk.size());
+                for (Row row : chunk) {
+                    if (existingEmailKeys.contains(Student.emailKeyOf(row.student().getEmail()))) {
+                        existing.add(row);
+                    } else {
+                        rows.add(row);
+                    }
+                }
+
+                if (!rows.isEmpty()) {
+                    List<Student> students = rows.stream().map(Row::student).toList();
+                    if (isPostgres()) {
+                        copyStudents(students);
+                    } else {
+                        batchInsertStudents(students);
+                    }
+                }
+                return rows;
+            });
+
+            report.addImported(accepted.size());
+            if (!accepted.isEmpty() && isPostgres()) {
+                // COPY bypasses Hibernate, so cached findByEmail misses for the new emails have to be dropped here
+                entityManager.getEntityManagerFactory().getCache().unwrap(Cache.class).evictQueryRegions();
+            }
+            accepted.forEach(row -> searchIndex.put(row.student()));
+            for (Row row : existing) {
+                report.addReject(row.line(), "email " + row.student().getEmail() + " already exists");
+            }
+        } catch (DataAccessException e) {
+            if (chunk.size() == 1) {
+                Row row = chunk.get(0);
+                report.addReject(row.line(), "rejected by the database: " + e.getMostSpecificCause().getMessage());
+                return;
+            }
+
+            // A row the pre-check missed, such as an email inserted concurrently, fails the whole chunk.
+            // Split it and load each half again, so only the rows the database refuses are rejected.
+            chunk.forEach(row -> {
+                row.student().setId(null);
+                row.student().setVersion(null);
+            });
+            int middle = chunk.size() / 2;
+            loadChunk(chunk.subList(0, middle), report);
+            loadChunk(chunk.subList(middle, chunk.size()), report);
+        }
+    }
+
+    private void copyStudents(List<Student> students) {
+        List<Long> ids = reserveIds(students.size());
+        StringBuilder data = new StringBuilder(students.size() * 64);
+        for (int i = 0; i < students.size(); i++) {
+            Student student = students.get(i);
+            student.setId(ids.get(i));
+            student.setEmailKey(Student.emailKeyOf(student.getEmail()));
+            student.setVersion(0L);
+            data.append(student.getId()).append(',')
+                    .append(quote(student.getFirstName())).append(',')
+                    .append(quote(student.getLastName())).append(',')
+                    .append(quote(student.getEmail())).append(',')
+                    .append(quote(student.getEmailKey())).append(',')
+                    .append(student.getVersion()).append('\n');
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            try {
+                return copyManager.copyIn(COPY_SQL, new StringReader(data.toString()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    // Each nextval() of the pooled sequence owns the block (value - allocationSize, value],
+    // which is the same contract Hibernate's pooled optimizer follows for regular inserts.
+    private List<Long> reserveIds(int count) {
+        int blocks = (count + Student.ID_ALLOCATION_SIZE - 1) / Student.ID_ALLOCATION_SIZE;
+        List<Long> values = jdbcTemplate.queryForList(RESERVE_IDS_SQL, Long.class, blocks + 1);
+
+        List<Long> ids = new ArrayList<>(count);
+        for (Long value : values) {
+            for (long id = Math.max(1, value - Student.ID_ALLOCATION_SIZE + 1); id <= value && ids.size() < count; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private void batchInsertStudents(List<Student> students) {
+        // Flushing through the repository translates a constraint violation into a DataAccessException
+        repository.saveAllAndFlush(students);
+        entityManager.clear();
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> connection.isWrapperFor(PGConnection.class));
+        }
+        return postgres;
+    }
+
+    private static String quote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private record Row(long line, Student student) {
+    }
+}
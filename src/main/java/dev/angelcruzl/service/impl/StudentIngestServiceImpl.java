@@ -0,0 +1,316 @@
+package dev.angelcruzl.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.angelcruzl.bulkhead.DatabaseBulkhead;
+import dev.angelcruzl.dto.IngestStatus;
+import dev.angelcruzl.exception.BulkheadFullException;
+import dev.angelcruzl.exception.IngestQueueFullException;
+import dev.angelcruzl.model.Student;
+import dev.angelcruzl.repository.StudentRepository;
+import dev.angelcruzl.search.StudentSearchIndex;
+import dev.angelcruzl.service.StudentIngestService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Write-behind creation of students. Submissions are queued and a single flusher thread writes them in
+ * batches, either when a batch is full or when the flush interval after its first student has passed.
+ * Transient database failures are retried with backoff, so an accepted student is only rejected for
+ * its own data. Statuses are kept in a bounded cache, so a lookup is best-effort once the ticket has
+ * expired or been evicted.
+ */
+@Service
+public class StudentIngestServiceImpl implements StudentIngestService, SmartLifecycle, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentIngestServiceImpl.class);
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private StudentSearchIndex searchIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectProvider<DatabaseBulkhead> bulkhead;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final BlockingQueue<Pending> queue;
+
+    private final Cache<String, IngestStatus> statuses;
+
+    private final int batchSize;
+
+    private final long flushIntervalNanos;
+
+    private final Duration retryBackoff;
+
+    private final Duration maxRetryBackoff;
+
+    private volatile boolean running;
+
+    private Thread flusher;
+
+    public StudentIngestServiceImpl(@Value("${students.ingest.queue-capacity:10000}") int queueCapacity,
+                                    @Value("${students.ingest.batch-size:500}") int batchSize,
+                                    @Value("${students.ingest.flush-interval:50ms}") Duration flushInterval,
+                                    @Value("${students.ingest.status-ttl:1h}") Duration statusTtl,
+                                    @Value("${students.ingest.status-maximum-size:100000}") long statusMaximumSize,
+                                    @Value("${students.ingest.retry-backoff:100ms}") Duration retryBackoff,
+                                    @Value("${students.ingest.max-retry-backoff:5s}") Duration maxRetryBackoff) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.statuses = Caffeine.newBuilder()
+                .maximumSize(statusMaximumSize)
+                .expireAfterWrite(statusTtl)
+                .build();
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+    }
+
+    @Override
+    public IngestStatus submit(Student student) {
+        if (!running) {
+            throw new IngestQueueFullException("Student ingestion is not running");
+        }
+
+        student.setId(null);
+        student.setVersion(null);
+        String ticketId = UUID.randomUUID().toString();
+        IngestStatus status = IngestStatus.pending(ticketId);
+        statuses.put(ticketId, status);
+        if (!queue.offer(new Pending(ticketId, student))) {
+            statuses.invalidate(ticketId);
+            throw new IngestQueueFullException("Student ingestion queue is full");
+        }
+        return status;
+    }
+
+    @Override
+    public Optional<IngestStatus> getStatus(String ticketId) {
+        return Optional.ofNullable(statuses.getIfPresent(ticketId));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = new Thread(this::run, "student-ingest-flusher");
+        flusher.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stop after the web server so requests that were already accepted are still flushed.
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("students.ingest.queue.size", queue, BlockingQueue::size)
+                .description("Students waiting to be written")
+                .register(registry);
+    }
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                    }
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                List<Pending> queued = new ArrayList<>();
+                queue.drainTo(queued);
+                rejectUnwritten(batch, "ingestion stopped before it could be written");
+                rejectUnwritten(queued, "ingestion stopped before it could be written");
+                return;
+            } catch (RuntimeException e) {
+                log.error("Could not flush {} queued students", batch.size(), e);
+                rejectUnwritten(batch, "could not be written: " + e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Pending> batch) throws InterruptedException {
+        List<Pending> accepted = new ArrayList<>(batch.size());
+        Set<String> emailKeys = new HashSet<>();
+        for (Pending pending : batch) {
+            if (emailKeys.add(Student.emailKeyOf(pending.student().getEmail()))) {
+                accepted.add(pending);
+            } else {
+                reject(pending, "email " + pending.student().getEmail() + " was submitted more than once");
+            }
+        }
+
+        try {
+            List<Pending> existing = new ArrayList<>();
+            List<Pending> written = writeWithRetry(() -> transactionTemplate.execute(status -> {
+                existing.clear();
+                Set<String> existingEmailKeys = new HashSet<>(repository.findExistingEmailKeys(emailKeys));
+                List<Pending> rows = new ArrayList<>(accepted.size());
+                for (Pending pending : accepted) {
+                    if (existingEmailKeys.contains(Student.emailKeyOf(pending.student().getEmail()))) {
+                        existing.add(pending);
+                    } else {
+                        // A rolled back attempt may have assigned ids already.
+                        pending.student().setId(null);
+                        pending.student().setVersion(null);
+                        rows.add(pending);
+                    }
+                }
+
+                repository.saveAll(rows.stream().map(Pending::student).toList());
+                entityManager.flush();
+                entityManager.clear();
+                return rows;
+            }));
+
+            existing.forEach(pending -> reject(pending, "email " + pending.student().getEmail() + " already exists"));
+            written.forEach(this::complete);
+        } catch (DataAccessException e) {
+            // A concurrent write beat this batch to an email; retry one by one so only the offending rows fail.
+            for (Pending pending : accepted) {
+                flushOne(pending);
+            }
+        }
+    }
+
+    private void flushOne(Pending pending) throws InterruptedException {
+        pending.student().setId(null);
+        pending.student().setVersion(null);
+        try {
+            writeWithRetry(() -> transactionTemplate.execute(status -> repository.saveAndFlush(pending.student())));
+            complete(pending);
+        } catch (DataAccessException e) {
+            reject(pending, e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    // The permit is taken before the transaction borrows a connection, in the same order request threads use.
+    private <T> T writeWithRetry(Supplier<T> write) throws InterruptedException {
+        long backoffMillis = retryBackoff.toMillis();
+        while (true) {
+            try {
+                return withPermit(write);
+            } catch (RuntimeException e) {
+                if (!running || !isTransient(e)) {
+                    throw e;
+                }
+                log.warn("Could not write queued students, retrying in {} ms: {}", backoffMillis, e.toString());
+                TimeUnit.MILLISECONDS.sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, maxRetryBackoff.toMillis());
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T withPermit(Supplier<T> write) {
+        DatabaseBulkhead databaseBulkhead = bulkhead.getIfAvailable();
+        if (databaseBulkhead == null) {
+            return write.get();
+        }
+        try {
+            return (T) databaseBulkhead.execute(write::get);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof BulkheadFullException
+                || e instanceof CannotCreateTransactionException
+                || e instanceof TransientDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    private void rejectUnwritten(List<Pending> pendings, String reason) {
+        for (Pending pending : pendings) {
+            IngestStatus status = statuses.getIfPresent(pending.ticketId());
+            if (status == null || status.getState() == IngestStatus.State.PENDING) {
+                reject(pending, reason);
+            }
+        }
+    }
+
+    private void complete(Pending pending) {
+        statuses.put(pending.ticketId(), IngestStatus.created(pending.ticketId(), pending.student().getId()));
+        searchIndex.put(pending.student());
+    }
+
+    private void reject(Pending pending, String reason) {
+        statuses.put(pending.ticketId(), IngestStatus.rejected(pending.ticketId(), reason));
+    }
+
+    private record Pending(String ticketId, Student student) {
+    }
+}
@@ -1,58 +1,357 @@
 package dev.angelcruzl.service.impl;
 
+import dev.angelcruzl.cache.StudentCache;
+import dev.angelcruzl.dto.CursorPage;
+import dev.angelcruzl.dto.StudentView;
+import dev.angelcruzl.exception.DuplicateEmailException;
+import dev.angelcruzl.exception.ResourceConflictException;
 import dev.angelcruzl.exception.ResourceNotFoundException;
 import dev.angelcruzl.model.Student;
 import dev.angelcruzl.repository.StudentRepository;
+import dev.angelcruzl.search.StudentSearchIndex;
 import dev.angelcruzl.service.StudentService;
+import dev.angelcruzl.util.Cursors;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "students.service", histogram = true)
 public class StudentServiceImpl implements StudentService {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
+    private static final int MIN_SEARCH_QUERY_LENGTH = 3;
+
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    private static final String EMAIL_CONSTRAINT = "uk_students_email";
+
+    private static final Set<String> PATCHABLE_FIELDS = Set.of("firstName", "lastName", "email");
+
+    private static final Set<String> SELECTABLE_FIELDS = Set.of("id", "firstName", "lastName", "email", "version");
+
     @Autowired
     private StudentRepository repository;
 
+    @Autowired
+    private StudentCache cache;
+
+    @Autowired
+    private StudentSearchIndex searchIndex;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
-    public List<Student> getAllStudents() {
-        return repository.findAll();
+    @Transactional(readOnly = true)
+    public List<StudentView> getAllStudents() {
+        return repository.findAllByOrderByIdAsc();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<StudentView> getStudentsPage(String cursor, int limit) {
+        validateLimit(limit);
+        long after = cursor == null ? 0L : Cursors.decode(cursor);
+        List<StudentView> students = repository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(limit + 1));
+        if (students.size() <= limit) {
+            return new CursorPage<>(students, null);
+        }
+
+        List<StudentView> content = students.subList(0, limit);
+        return new CursorPage<>(content, Cursors.encode(content.get(limit - 1).id()));
+    }
+
+    @Override
+    public List<Map<String, Object>> getAllStudentFields(Set<String> fields) {
+        return repository.findFields(selectedFields(fields), null, null);
+    }
+
+    @Override
+    public CursorPage<Map<String, Object>> getStudentFieldsPage(Set<String> fields, String cursor, int limit) {
+        validateLimit(limit);
+        long after = cursor == null ? 0L : Cursors.decode(cursor);
+        List<Map<String, Object>> students = repository.findFields(selectedFields(fields), after, limit + 1);
+        if (students.size() <= limit) {
+            return new CursorPage<>(students, null);
+        }
+
+        List<Map<String, Object>> content = students.subList(0, limit);
+        return new CursorPage<>(content, Cursors.encode((Long) content.get(limit - 1).get("id")));
+    }
+
+    @Override
+    public Optional<Map<String, Object>> getStudentFieldsById(Long id, Set<String> fields) {
+        return repository.findFieldsById(id, selectedFields(fields)).stream().findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<StudentView> searchStudents(String query, String cursor, int limit) {
+        String term = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+        if (term.length() < MIN_SEARCH_QUERY_LENGTH) {
+            throw new IllegalArgumentException("q must have at least " + MIN_SEARCH_QUERY_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+
+        long[] position = cursor == null ? new long[]{0, 0} : Cursors.decodeRanked(cursor);
+        String escapedTerm = escapeLike(term);
+        String prefix = escapedTerm + "%";
+        List<StudentView> students = new ArrayList<>(limit + 1);
+        int prefixMatches = 0;
+        long after = position[1];
+        if (position[0] == 0) {
+            students.addAll(repository.searchByPrefix(prefix, after, Limit.of(limit + 1)));
+            prefixMatches = students.size();
+            after = 0;
+        }
+        if (students.size() <= limit) {
+            students.addAll(repository.searchBySubstring("%" + escapedTerm + "%", prefix, after,
+                    Limit.of(limit + 1 - students.size())));
+        }
+        if (students.size() <= limit) {
+            return new CursorPage<>(students, null);
+        }
+
+        List<StudentView> content = students.subList(0, limit);
+        int lastRank = limit <= prefixMatches ? 0 : 1;
+        return new CursorPage<>(content, Cursors.encode(lastRank, content.get(limit - 1).id()));
+    }
+
+    @Override
+    public List<StudentView> typeahead(String query, int limit) {
+        String term = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+        if (term.isEmpty()) {
+            throw new IllegalArgumentException("q must not be blank");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+
+        if (searchIndex.isReady()) {
+            return searchIndex.search(term, limit);
+        }
+
+        String escapedTerm = escapeLike(term);
+        List<StudentView> students = new ArrayList<>(repository.searchByPrefix(escapedTerm + "%", 0L, Limit.of(limit)));
+        if (students.size() < limit && term.length() >= MIN_SEARCH_QUERY_LENGTH) {
+            students.addAll(repository.searchBySubstring("%" + escapedTerm + "%", escapedTerm + "%", 0L,
+                    Limit.of(limit - students.size())));
+        }
+        return students;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportStudents(Consumer<Student> consumer) {
+        try (Stream<Student> students = repository.streamAll()) {
+            students.forEach(student -> {
+                consumer.accept(student);
+                entityManager.detach(student);
+            });
+        }
     }
 
     @Override
     public Student createStudent(Student student) {
-        Optional<Student> savedStudent = repository.findByEmail(student.getEmail());
-        if (savedStudent.isPresent()) {
-            throw new ResourceNotFoundException("Student with email " + student.getEmail() + " already exists");
+        student.setId(null);
+        student.setVersion(null);
+        try {
+            Student savedStudent = repository.saveAndFlush(student);
+            searchIndex.put(savedStudent);
+            return savedStudent;
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateEmail(e)) {
+                throw new ResourceNotFoundException("Student with email " + student.getEmail() + " already exists", e);
+            }
+            throw e;
         }
+    }
 
-        return repository.save(student);
+    @Override
+    @Transactional
+    public List<Student> createStudents(List<Student> students) {
+        if (students.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("batch size must not exceed " + MAX_BATCH_SIZE);
+        }
+
+        Set<String> emailKeys = new HashSet<>();
+        for (Student student : students) {
+            // A client-supplied id would turn the insert into a merge over an existing student
+            student.setId(null);
+            student.setVersion(null);
+            if (!emailKeys.add(Student.emailKeyOf(student.getEmail()))) {
+                throw new ResourceNotFoundException("Student with email " + student.getEmail() + " is repeated in the batch");
+            }
+        }
+
+        List<String> existingEmails = repository.findExistingEmailKeys(emailKeys);
+        if (!existingEmails.isEmpty()) {
+            throw new ResourceNotFoundException("Students with emails " + existingEmails + " already exist");
+        }
+
+        List<Student> savedStudents = repository.saveAll(students);
+        savedStudents.forEach(searchIndex::put);
+        return savedStudents;
     }
 
     @Override
     public Optional<Student> getStudentById(Long id) {
-        return repository.findById(id);
+        return cache.get(id, repository::findById);
     }
 
     @Override
+    @Transactional
     public Student updateStudent(Student student) {
-        Optional<Student> savedStudent = repository.findById(student.getId());
-        if (savedStudent.isEmpty()) {
-            throw new ResourceNotFoundException("Student with id " + student.getId() + " not found");
+        student.setEmailKey(Student.emailKeyOf(student.getEmail()));
+        if (student.getVersion() == null) {
+            student.setVersion(rejectingDuplicateEmail(student.getEmail(), () -> repository.updateByIdReturningVersion(
+                            student.getId(), student.getFirstName(), student.getLastName(), student.getEmail(),
+                            student.getEmailKey()))
+                    .orElseThrow(() -> new ResourceNotFoundException("Student with id " + student.getId() + " not found")));
+        } else {
+            int updatedRows = rejectingDuplicateEmail(student.getEmail(), () -> repository.updateByIdAndVersion(
+                    student.getId(), student.getVersion(), student.getFirstName(), student.getLastName(),
+                    student.getEmail(), student.getEmailKey()));
+            if (updatedRows == 0) {
+                if (repository.existsById(student.getId())) {
+                    throw new ResourceConflictException("Student with id " + student.getId()
+                            + " was modified after version " + student.getVersion());
+                }
+                throw new ResourceNotFoundException("Student with id " + student.getId() + " not found");
+            }
+            student.setVersion(student.getVersion() + 1);
+        }
+
+        cache.invalidate(student.getId());
+        searchIndex.put(student);
+        return student;
+    }
+
+    @Override
+    @Transactional
+    public Student patchStudent(Long id, Long version, Map<String, Object> patch) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        patch.forEach((name, value) -> {
+            if (!PATCHABLE_FIELDS.contains(name)) {
+                throw new IllegalArgumentException("Field " + name + " cannot be patched");
+            }
+            if (!(value instanceof String text) || text.isBlank()) {
+                throw new IllegalArgumentException("Field " + name + " must be a non-empty string");
+            }
+            fields.put(name, value);
+        });
+        if (fields.containsKey("email")) {
+            fields.put("emailKey", Student.emailKeyOf((String) fields.get("email")));
+        }
+
+        if (!fields.isEmpty()) {
+            if (rejectingDuplicateEmail(fields.get("email"), () -> repository.updateFields(id, version, fields)) == 0) {
+                if (version != null && repository.existsById(id)) {
+                    throw new ResourceConflictException("Student with id " + id + " was modified after version " + version);
+                }
+                throw new ResourceNotFoundException("Student with id " + id + " not found");
+            }
+            cache.invalidate(id);
+        } else if (version != null) {
+            // Nothing to write, but If-Match must still hold for the current row
+            Long currentVersion = repository.findVersionById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Student with id " + id + " not found"));
+            if (!currentVersion.equals(version)) {
+                throw new ResourceConflictException("Student with id " + id + " was modified after version " + version);
+            }
         }
 
-        return repository.save(student);
+        Student student = repository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Student with id " + id + " not found"));
+        searchIndex.put(student);
+        return student;
     }
 
     @Override
     public void deleteStudent(Long id) {
-        Optional<Student> savedStudent = repository.findById(id);
-        if (savedStudent.isEmpty()) {
+        if (repository.deleteStudentById(id) == 0) {
             throw new ResourceNotFoundException("Student with id " + id + " not found");
         }
 
-        repository.deleteById(id);
+        cache.invalidate(id);
+        searchIndex.remove(id);
+    }
+
+    @Override
+    public int deleteStudents(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        int deletedRows = 0;
+        for (int from = 0; from < distinctIds.size(); from += DELETE_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, distinctIds.size()));
+            deletedRows += repository.deleteStudentsByIdIn(chunk);
+            chunk.forEach(cache::invalidate);
+            chunk.forEach(searchIndex::remove);
+        }
+
+        return deletedRows;
+    }
+
+    private static <T> T rejectingDuplicateEmail(Object email, Supplier<T> update) {
+        try {
+            return update.get();
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateEmail(e)) {
+                throw new DuplicateEmailException("Student with email " + email + " already exists", e);
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isDuplicateEmail(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(EMAIL_CONSTRAINT);
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private static void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    private static Set<String> selectedFields(Set<String> fields) {
+        Set<String> selectedFields = new LinkedHashSet<>();
+        selectedFields.add("id");
+        for (String field : fields) {
+            if (!SELECTABLE_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Field " + field + " cannot be selected");
+            }
+            selectedFields.add(field);
+        }
+        return selectedFields;
     }
 }
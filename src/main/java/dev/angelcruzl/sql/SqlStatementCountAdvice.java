@@ -0,0 +1,30 @@
+package dev.angelcruzl.sql;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// Sets the count header before the body commits the response; the filter covers responses without a body.
+@ControllerAdvice
+public class SqlStatementCountAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlStatementCounter.Scope scope = SqlStatementCounter.current();
+        if (scope != null) {
+            response.getHeaders().set(SqlStatementCountingFilter.HEADER, Long.toString(scope.count()));
+        }
+        return body;
+    }
+}
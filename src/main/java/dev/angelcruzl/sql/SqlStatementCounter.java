@@ -0,0 +1,92 @@
+package dev.angelcruzl.sql;
+
+import dev.angelcruzl.exception.SqlBudgetExceededException;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Counts the statements Hibernate prepares on the current thread. Scopes nest, so a test can count a
+ * whole MockMvc call while the request filter counts the same statements for the request.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Deque<Scope>> SCOPES = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Deque<Scope> scopes = SCOPES.get();
+        if (scopes != null) {
+            for (Scope scope : scopes) {
+                scope.increment(sql);
+            }
+        }
+        return sql;
+    }
+
+    public static Scope open() {
+        return open(Long.MAX_VALUE, false);
+    }
+
+    public static Scope open(long budget, boolean reject) {
+        Deque<Scope> scopes = SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            SCOPES.set(scopes);
+        }
+
+        Scope scope = new Scope(budget, reject);
+        scopes.push(scope);
+        return scope;
+    }
+
+    public static Scope current() {
+        Deque<Scope> scopes = SCOPES.get();
+        return scopes == null ? null : scopes.peek();
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final long budget;
+
+        private final boolean reject;
+
+        private long count;
+
+        private Scope(long budget, boolean reject) {
+            this.budget = budget;
+            this.reject = reject;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public long budget() {
+            return budget;
+        }
+
+        public boolean exceeded() {
+            return count > budget;
+        }
+
+        @Override
+        public void close() {
+            Deque<Scope> scopes = SCOPES.get();
+            if (scopes != null) {
+                scopes.remove(this);
+                if (scopes.isEmpty()) {
+                    SCOPES.remove();
+                }
+            }
+        }
+
+        private void increment(String sql) {
+            count++;
+            if (reject && count > budget) {
+                throw new SqlBudgetExceededException("Statement budget of " + budget + " exceeded by: " + sql);
+            }
+        }
+    }
+}
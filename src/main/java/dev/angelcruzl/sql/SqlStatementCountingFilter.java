@@ -0,0 +1,75 @@
+package dev.angelcruzl.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+@Component
+public class SqlStatementCountingFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-SQL-Statement-Count";
+
+    public enum Mode {
+        LOG, REJECT
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementCountingFilter.class);
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    private final long maxStatements;
+
+    private final Mode mode;
+
+    public SqlStatementCountingFilter(ObjectProvider<MeterRegistry> meterRegistry,
+                                      @Value("${students.sql.budget.max-statements:25}") long maxStatements,
+                                      @Value("${students.sql.budget.mode:LOG}") Mode mode) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.mode = mode;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementCounter.Scope scope = SqlStatementCounter.open(maxStatements, mode == Mode.REJECT);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            scope.close();
+            if (!response.isCommitted()) {
+                response.setHeader(HEADER, Long.toString(scope.count()));
+            }
+            record(request, scope);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementCounter.Scope scope) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+        meterRegistry.ifAvailable(registry -> DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements prepared per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(registry)
+                .record(scope.count()));
+
+        if (scope.exceeded() && mode == Mode.LOG) {
+            log.warn("{} {} ran {} SQL statements, over the budget of {}",
+                    request.getMethod(), uri, scope.count(), scope.budget());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package dev.angelcruzl.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public final class Cursors {
+
+    private Cursors() {
+    }
+
+    public static String encode(long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // A search cursor also records whether the last result was a prefix match (rank 0) or a substring match (rank 1)
+    public static String encode(int rank, long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((rank + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static long[] decodeRanked(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Missing rank");
+            }
+            long rank = Long.parseLong(value.substring(0, separator));
+            if (rank != 0 && rank != 1) {
+                throw new IllegalArgumentException("Unknown rank " + rank);
+            }
+            return new long[]{rank, Long.parseLong(value.substring(separator + 1))};
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor " + cursor, e);
+        }
+    }
+
+    public static long decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return Long.parseLong(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor " + cursor, e);
+        }
+    }
+}
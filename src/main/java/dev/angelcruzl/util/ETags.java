@@ -0,0 +1,50 @@
+package dev.angelcruzl.util;
+
+public final class ETags {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private ETags() {
+    }
+
+    public static String of(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    public static boolean matches(String header, String eTag) {
+        if (header == null || eTag == null) {
+            return false;
+        }
+
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || stripWeak(value).equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static Long parseVersion(String header) {
+        if (header == null || header.trim().equals("*")) {
+            return null;
+        }
+        if (header.contains(",")) {
+            throw new IllegalArgumentException("Only a single entity tag is supported in If-Match");
+        }
+
+        String value = stripWeak(header.trim());
+        if (value.length() < 2 || !value.startsWith("\"") || !value.endsWith("\"")) {
+            throw new IllegalArgumentException("Invalid entity tag " + header);
+        }
+        try {
+            return Long.parseLong(value.substring(1, value.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid entity tag " + header, e);
+        }
+    }
+
+    private static String stripWeak(String value) {
+        return value.startsWith(WEAK_PREFIX) ? value.substring(WEAK_PREFIX.length()) : value;
+    }
+}
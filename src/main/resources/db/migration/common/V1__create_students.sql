@@ -0,0 +1,13 @@
+create sequence if not exists students_seq start with 1 increment by 50;
+
+create table if not exists students (
+    id         bigint       not null,
+    first_name varchar(255) not null,
+    last_name  varchar(255) not null,
+    email      varchar(255) not null,
+    email_key  varchar(255),
+    version    bigint,
+    primary key (id),
+    constraint uk_students_email unique (email),
+    constraint uk_students_email_key unique (email_key)
+);
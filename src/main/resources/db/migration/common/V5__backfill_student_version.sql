@@ -0,0 +1,8 @@
+-- Rows written before optimistic locking existed have no version, so they could never carry an ETag.
+alter table students add column if not exists version bigint;
+
+update students
+set version = 0
+where version is null;
+
+alter table students alter column version set not null;
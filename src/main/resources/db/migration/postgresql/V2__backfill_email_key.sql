@@ -0,0 +1,54 @@
+-- Rows written before email_key existed have no key, so the uniqueness check on the normalized email misses them.
+-- This runs before the search indexes in V3, which index email_key. Databases baselined at V1 by
+-- baseline-on-migrate skipped the V1 table definition, so the column and both constraints are created here.
+alter table students add column if not exists email_key varchar(255);
+
+-- Emails that only differ in case or surrounding spaces can't share a key. The row that already has the key, or
+-- else the oldest one, keeps it. The others are recorded here and given a key that matches no real email until
+-- they are merged or fixed by hand.
+create table if not exists students_email_key_conflicts (
+    student_id  bigint       not null,
+    email       varchar(255) not null,
+    email_key   varchar(255) not null,
+    recorded_at timestamp    not null default current_timestamp,
+    primary key (student_id)
+);
+
+insert into students_email_key_conflicts (student_id, email, email_key)
+select id, email, email_key
+from (select id,
+             email,
+             lower(trim(email)) as email_key,
+             row_number() over (partition by lower(trim(email))
+                                order by case when email_key is null then 1 else 0 end, id) as position
+      from students) ranked
+where position > 1
+on conflict (student_id) do nothing;
+
+update students
+set email_key = lower(trim(email)) || '#' || id
+where id in (select student_id from students_email_key_conflicts)
+  and email_key is null;
+
+update students
+set email_key = lower(trim(email))
+where email_key is null;
+
+alter table students alter column email_key set not null;
+
+do $$
+begin
+    if not exists (select 1 from pg_constraint where conname = 'uk_students_email_key') then
+        alter table students add constraint uk_students_email_key unique (email_key);
+    end if;
+    -- Exact duplicates were recorded as conflicts above. Leave the email constraint off until they are resolved
+    -- instead of failing every startup.
+    if not exists (select 1 from pg_constraint where conname = 'uk_students_email') then
+        if exists (select 1 from students group by email having count(*) > 1) then
+            raise warning 'uk_students_email not created: duplicate emails are listed in students_email_key_conflicts';
+        else
+            alter table students add constraint uk_students_email unique (email);
+        end if;
+    end if;
+end
+$$;
@@ -0,0 +1,5 @@
+create extension if not exists pg_trgm;
+
+create index if not exists idx_students_first_name_trgm on students using gin (lower(first_name) gin_trgm_ops);
+create index if not exists idx_students_last_name_trgm on students using gin (lower(last_name) gin_trgm_ops);
+create index if not exists idx_students_email_key_trgm on students using gin (email_key gin_trgm_ops);
@@ -0,0 +1,9 @@
+-- Tables created before ids came from students_seq use an identity column. V1 is skipped on those databases by
+-- baseline-on-migrate, so the sequence is created here and moved past the highest id in use. Hibernate's pooled
+-- optimizer treats each value as the top of a block of 50, so the next block starts right after max(id).
+create sequence if not exists students_seq start with 1 increment by 50;
+
+select setval('students_seq', (select max(id) from students))
+where (select max(id) from students) > (select last_value from students_seq);
+
+alter table students alter column id drop identity if exists;
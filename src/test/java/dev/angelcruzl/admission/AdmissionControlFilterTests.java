@@ -0,0 +1,51 @@
+package dev.angelcruzl.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class AdmissionControlFilterTests {
+
+    private final AdmissionController admissionController =
+            new AdmissionController(1, 1, 1.0, Duration.ofMillis(20), Duration.ofHours(1));
+
+    private final AdmissionControlFilter filter = new AdmissionControlFilter(admissionController, Duration.ofSeconds(2));
+
+    @DisplayName("JUnit test for admitting a request and releasing its slot")
+    @Test
+    public void givenFreeSlot_whenFilter_thenAdmitAndRelease() throws Exception {
+        // given - precondition or setup
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/students");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when - action or the behaviour that we are going test
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // then - verify the output
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(admissionController.inFlight()).isEqualTo(0);
+    }
+
+    @DisplayName("JUnit test for shedding a request over the limit")
+    @Test
+    public void givenLimitInUse_whenFilter_thenReturnServiceUnavailable() throws Exception {
+        // given - precondition or setup
+        admissionController.tryAcquire(AdmissionController.Priority.WRITE);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/students");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when - action or the behaviour that we are going test
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // then - verify the output
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(admissionController.inFlight()).isEqualTo(1);
+    }
+}
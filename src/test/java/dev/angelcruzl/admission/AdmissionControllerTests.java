@@ -0,0 +1,143 @@
+package dev.angelcruzl.admission;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class AdmissionControllerTests {
+
+    private AdmissionController admissionController;
+
+    private SimpleMeterRegistry registry;
+
+    private Timer acquireTimer;
+
+    @BeforeEach
+    public void setUp() {
+        // Sampling is driven by the tests, so the interval never elapses on its own
+        admissionController = new AdmissionController(2, 10, 0.5, Duration.ofMillis(20), Duration.ofHours(1));
+        registry = new SimpleMeterRegistry();
+        admissionController.bindTo(registry);
+        acquireTimer = registry.timer("hikaricp.connections.acquire");
+    }
+
+    @DisplayName("JUnit test for shedding reads before writes")
+    @Test
+    public void givenReadShareInUse_whenTryAcquire_thenRejectReadAndAdmitWrite() {
+        // given - precondition or setup
+        for (int i = 0; i < 5; i++) {
+            admissionController.tryAcquire(AdmissionController.Priority.WRITE);
+        }
+
+        // when - action or the behaviour that we are going test
+        boolean readAdmitted = admissionController.tryAcquire(AdmissionController.Priority.READ);
+        boolean writeAdmitted = admissionController.tryAcquire(AdmissionController.Priority.WRITE);
+
+        // then - verify the output
+        assertThat(readAdmitted).isFalse();
+        assertThat(writeAdmitted).isTrue();
+        assertThat(admissionController.inFlight()).isEqualTo(6);
+    }
+
+    @DisplayName("JUnit test for rejecting writes over the limit")
+    @Test
+    public void givenLimitInUse_whenTryAcquireWrite_thenReject() {
+        // given - precondition or setup
+        for (int i = 0; i < 10; i++) {
+            admissionController.tryAcquire(AdmissionController.Priority.WRITE);
+        }
+
+        // when - action or the behaviour that we are going test
+        boolean writeAdmitted = admissionController.tryAcquire(AdmissionController.Priority.WRITE);
+        admissionController.release(AdmissionController.Priority.WRITE);
+
+        // then - verify the output
+        assertThat(writeAdmitted).isFalse();
+        assertThat(admissionController.tryAcquire(AdmissionController.Priority.WRITE)).isTrue();
+    }
+
+    @DisplayName("JUnit test for shrinking the limit when connections are slow to acquire")
+    @Test
+    public void givenSlowConnectionAcquisition_whenSample_thenShrinkLimit() {
+        // given - precondition or setup
+        acquireTimer.record(Duration.ofMillis(100));
+        acquireTimer.record(Duration.ofMillis(80));
+
+        // when - action or the behaviour that we are going test
+        admissionController.sample();
+
+        // then - verify the output
+        assertThat(admissionController.limit()).isEqualTo(9);
+    }
+
+    @DisplayName("JUnit test for shrinking the limit when threads queue for a database permit")
+    @Test
+    public void givenThreadsWaitingForBulkhead_whenSample_thenShrinkLimit() {
+        // given - precondition or setup
+        AtomicInteger waiting = new AtomicInteger(4);
+        Gauge.builder("students.db.bulkhead.waiting", waiting, AtomicInteger::get).register(registry);
+
+        // when - action or the behaviour that we are going test
+        admissionController.sample();
+
+        // then - verify the output
+        assertThat(admissionController.limit()).isEqualTo(9);
+    }
+
+    @DisplayName("JUnit test for shrinking the limit when database permits are slow to get")
+    @Test
+    public void givenSlowBulkheadWait_whenSample_thenShrinkLimit() {
+        // given - precondition or setup
+        Timer bulkheadWait = registry.timer("students.db.bulkhead.wait");
+        bulkheadWait.record(Duration.ofMillis(150));
+        acquireTimer.record(Duration.ofMillis(1));
+
+        // when - action or the behaviour that we are going test
+        admissionController.sample();
+
+        // then - verify the output
+        assertThat(admissionController.limit()).isEqualTo(9);
+    }
+
+    @DisplayName("JUnit test for keeping the minimum limit under sustained congestion")
+    @Test
+    public void givenSustainedSlowAcquisition_whenSample_thenKeepMinimumLimit() {
+        // given - precondition or setup
+        for (int i = 0; i < 30; i++) {
+            acquireTimer.record(Duration.ofMillis(100));
+            admissionController.sample();
+        }
+
+        // when - action or the behaviour that we are going test
+        int limit = admissionController.limit();
+
+        // then - verify the output
+        assertThat(limit).isEqualTo(2);
+    }
+
+    @DisplayName("JUnit test for growing the limit once connections are fast again")
+    @Test
+    public void givenFastAcquisitionAndBusyLimit_whenSample_thenGrowLimit() {
+        // given - precondition or setup
+        acquireTimer.record(Duration.ofMillis(100));
+        admissionController.sample();
+        for (int i = 0; i < 9; i++) {
+            admissionController.tryAcquire(AdmissionController.Priority.WRITE);
+        }
+        acquireTimer.record(Duration.ofMillis(1));
+
+        // when - action or the behaviour that we are going test
+        admissionController.sample();
+
+        // then - verify the output
+        assertThat(admissionController.limit()).isEqualTo(10);
+    }
+}
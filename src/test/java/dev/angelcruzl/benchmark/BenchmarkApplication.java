@@ -0,0 +1,26 @@
+package dev.angelcruzl.benchmark;
+
+import dev.angelcruzl.SpringbootTestingPsqlApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(WebApplicationType webApplicationType, String... properties) {
+        return new SpringApplicationBuilder(SpringbootTestingPsqlApplication.class)
+                .web(webApplicationType)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.show-sql=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=warn")
+                .properties(properties)
+                .run();
+    }
+}
@@ -0,0 +1,98 @@
+package dev.angelcruzl.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.angelcruzl.controller.StudentController;
+import dev.angelcruzl.dto.CursorPage;
+import dev.angelcruzl.dto.StudentView;
+import dev.angelcruzl.exception.RestExceptionHandler;
+import dev.angelcruzl.model.Student;
+import dev.angelcruzl.service.StudentImportService;
+import dev.angelcruzl.service.StudentService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Measures request mapping, argument resolution and message conversion with a stubbed service,
+ * so database and service costs stay out of the numbers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentControllerBenchmark {
+
+    private MockMvc mockMvc;
+
+    private String studentJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        Student student = Student.builder()
+                .id(1L)
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .version(0L)
+                .build();
+        List<StudentView> studentViews = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            studentViews.add(new StudentView(id, "First" + id, "Last" + id, "student" + id + "@benchmark.dev", 0L));
+        }
+
+        // stubOnly keeps Mockito from recording every invocation for the whole run
+        StudentService service = mock(StudentService.class, withSettings().stubOnly());
+        given(service.getStudentById(1L)).willReturn(Optional.of(student));
+        given(service.getStudentsPage(null, 100)).willReturn(new CursorPage<>(studentViews, "ZA"));
+        given(service.createStudent(any(Student.class))).willReturn(student);
+
+        StudentController controller = new StudentController();
+        ReflectionTestUtils.setField(controller, "service", service);
+        ReflectionTestUtils.setField(controller, "importService", mock(StudentImportService.class, withSettings().stubOnly()));
+        ReflectionTestUtils.setField(controller, "objectMapper", objectMapper);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new RestExceptionHandler())
+                .setMessageConverters(new StringHttpMessageConverter(), new MappingJackson2HttpMessageConverter(objectMapper))
+                .build();
+        studentJson = objectMapper.writeValueAsString(student);
+    }
+
+    @Benchmark
+    public MvcResult getStudentById() throws Exception {
+        return mockMvc.perform(get("/api/v1/students/1")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getStudentsPage() throws Exception {
+        return mockMvc.perform(get("/api/v1/students").param("limit", "100")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult createStudent() throws Exception {
+        return mockMvc.perform(post("/api/v1/students")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(studentJson)).andReturn();
+    }
+}
@@ -0,0 +1,84 @@
+package dev.angelcruzl.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.angelcruzl.dto.StudentView;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares the wire encodings offered by the student endpoints. Encoded and gzipped payload sizes are printed once
+ * per trial, next to the timings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentEncodingBenchmark {
+
+    private static final TypeReference<List<StudentView>> STUDENT_VIEW_LIST = new TypeReference<>() {
+    };
+
+    @Param({"json", "smile", "cbor"})
+    private String encoding;
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+
+    private List<StudentView> students;
+
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        objectMapper = switch (encoding) {
+            case "json" -> Jackson2ObjectMapperBuilder.json().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            default -> throw new IllegalArgumentException("Unknown encoding " + encoding);
+        };
+
+        students = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            students.add(new StudentView(id, "First" + id, "Last" + id, "student" + id + "@benchmark.dev", 0L));
+        }
+        payload = objectMapper.writeValueAsBytes(students);
+
+        System.out.printf("%n%s, %d students: %d bytes, %d bytes gzipped%n",
+                encoding, size, payload.length, gzip(payload).length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return objectMapper.writeValueAsBytes(students);
+    }
+
+    @Benchmark
+    public byte[] encodeGzipped() throws IOException {
+        return gzip(objectMapper.writeValueAsBytes(students));
+    }
+
+    @Benchmark
+    public List<StudentView> decode() throws IOException {
+        return objectMapper.readValue(payload, STUDENT_VIEW_LIST);
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bytes);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,70 @@
+package dev.angelcruzl.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.angelcruzl.dto.StudentView;
+import dev.angelcruzl.model.Student;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentSerializationBenchmark {
+
+    private static final TypeReference<List<Student>> STUDENT_LIST = new TypeReference<>() {
+    };
+
+    @Param({"10", "1000", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+
+    private List<Student> students;
+
+    private List<StudentView> studentViews;
+
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        students = new ArrayList<>(size);
+        studentViews = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            Student student = Student.builder()
+                    .id(id)
+                    .firstName("First" + id)
+                    .lastName("Last" + id)
+                    .email("student" + id + "@benchmark.dev")
+                    .version(0L)
+                    .build();
+            students.add(student);
+            studentViews.add(new StudentView(id, student.getFirstName(), student.getLastName(), student.getEmail(), 0L));
+        }
+        json = objectMapper.writeValueAsBytes(students);
+    }
+
+    @Benchmark
+    public byte[] serializeStudents() throws IOException {
+        return objectMapper.writeValueAsBytes(students);
+    }
+
+    @Benchmark
+    public byte[] serializeStudentViews() throws IOException {
+        return objectMapper.writeValueAsBytes(studentViews);
+    }
+
+    @Benchmark
+    public List<Student> deserializeStudents() throws IOException {
+        return objectMapper.readValue(json, STUDENT_LIST);
+    }
+}
@@ -0,0 +1,89 @@
+package dev.angelcruzl.benchmark;
+
+import dev.angelcruzl.dto.CursorPage;
+import dev.angelcruzl.dto.StudentView;
+import dev.angelcruzl.model.Student;
+import dev.angelcruzl.service.StudentService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentServiceBenchmark {
+
+    private static final int SEEDED_STUDENTS = 1000;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+
+    private StudentService service;
+
+    private List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(WebApplicationType.NONE, "students.search.index.enabled=false");
+        service = context.getBean(StudentService.class);
+
+        List<Student> students = new ArrayList<>(SEEDED_STUDENTS);
+        for (int i = 0; i < SEEDED_STUDENTS; i++) {
+            students.add(newStudent());
+        }
+        ids = service.createStudents(students).stream().map(Student::getId).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Student> getStudentById() {
+        return service.getStudentById(randomId());
+    }
+
+    @Benchmark
+    public CursorPage<StudentView> getStudentsPage() {
+        return service.getStudentsPage(null, 100);
+    }
+
+    @Benchmark
+    public Student updateStudent() {
+        Student student = newStudent();
+        student.setId(randomId());
+        return service.updateStudent(student);
+    }
+
+    @Benchmark
+    public Student createAndDeleteStudent() {
+        Student student = service.createStudent(newStudent());
+        service.deleteStudent(student.getId());
+        return student;
+    }
+
+    private Long randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private Student newStudent() {
+        long number = sequence.incrementAndGet();
+        return Student.builder()
+                .firstName("First" + number)
+                .lastName("Last" + number)
+                .email("student" + number + "@benchmark.dev")
+                .build();
+    }
+}
@@ -0,0 +1,149 @@
+package dev.angelcruzl.benchmark;
+
+import dev.angelcruzl.model.Student;
+import dev.angelcruzl.service.StudentService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the real student service under three thread models: a platform pool as large as the connection pool,
+ * a platform pool of Tomcat's default 200 threads, and one virtual thread per request. Each model runs with
+ * the database bulkhead on and off. Every call reads a page or updates a row, so each one needs a connection.
+ * Failed calls, such as bulkhead rejections, are reported as the {@code failures} counter next to the score.
+ * The project targets Java 17, so the virtual executor is looked up reflectively and the virtual runs fail
+ * their setup with a clear message unless the benchmark JVM is JDK 21 or newer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ThreadModelBenchmark {
+
+    private static final int REQUESTS_PER_OPERATION = 2000;
+
+    private static final int SEEDED_STUDENTS = 1000;
+
+    private static final int POOL_SIZE = 10;
+
+    @Param({"platform-10", "platform-200", "virtual"})
+    private String threads;
+
+    @Param({"true", "false"})
+    private boolean bulkhead;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+
+    private StudentService service;
+
+    private List<Long> ids;
+
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = newExecutor(threads);
+        context = BenchmarkApplication.start(WebApplicationType.NONE,
+                "spring.datasource.url=jdbc:h2:mem:threads-" + threads + "-" + bulkhead + ";DB_CLOSE_DELAY=-1",
+                "spring.threads.virtual.enabled=" + threads.equals("virtual"),
+                "students.search.index.enabled=false",
+                "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "students.db.bulkhead.enabled=" + bulkhead,
+                "students.db.bulkhead.permits=" + POOL_SIZE);
+        service = context.getBean(StudentService.class);
+
+        List<Student> students = new ArrayList<>(SEEDED_STUDENTS);
+        for (int i = 0; i < SEEDED_STUDENTS; i++) {
+            students.add(newStudent());
+        }
+        ids = service.createStudents(students).stream().map(Student::getId).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS_PER_OPERATION)
+    public void handleRequests(Failures failures) throws InterruptedException {
+        AtomicInteger failed = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(REQUESTS_PER_OPERATION);
+        for (int i = 0; i < REQUESTS_PER_OPERATION; i++) {
+            boolean write = i % 10 == 0;
+            executor.execute(() -> {
+                try {
+                    handleRequest(write);
+                } catch (RuntimeException e) {
+                    failed.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        failures.failures += failed.get();
+    }
+
+    private void handleRequest(boolean write) {
+        if (write) {
+            Student student = newStudent();
+            student.setId(ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+            service.updateStudent(student);
+        } else {
+            service.getStudentsPage(null, 20);
+        }
+    }
+
+    private static ExecutorService newExecutor(String threads) {
+        return switch (threads) {
+            case "platform-10" -> Executors.newFixedThreadPool(POOL_SIZE);
+            case "platform-200" -> Executors.newFixedThreadPool(200);
+            case "virtual" -> newVirtualThreadPerTaskExecutor();
+            default -> throw new IllegalArgumentException("Unknown thread model " + threads);
+        };
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads need JDK 21 or newer, this JVM is " + Runtime.version(), e);
+        }
+    }
+
+    private Student newStudent() {
+        long number = sequence.incrementAndGet();
+        return Student.builder()
+                .firstName("First" + number)
+                .lastName("Last" + number)
+                .email("student" + number + "@benchmark.dev")
+                .build();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Failures {
+        public long failures;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            failures = 0;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package dev.angelcruzl.bulkhead;
+
+import dev.angelcruzl.exception.BulkheadFullException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DatabaseBulkheadTests {
+
+    private DatabaseBulkhead bulkhead;
+
+    @BeforeEach
+    public void setUp() {
+        bulkhead = new DatabaseBulkhead(1, Duration.ofMillis(50));
+    }
+
+    @DisplayName("JUnit test for nested calls sharing one permit")
+    @Test
+    public void givenNestedCalls_whenExecute_thenUseSinglePermit() throws Throwable {
+        // when - action or the behaviour that we are going test
+        Object result = bulkhead.execute(() -> bulkhead.execute(() -> bulkhead.availablePermits()));
+
+        // then - verify the output
+        assertThat(result).isEqualTo(0);
+        assertThat(bulkhead.availablePermits()).isEqualTo(1);
+    }
+
+    @DisplayName("JUnit test for rejecting calls when every permit is in use")
+    @Test
+    public void givenPermitHeldByAnotherThread_whenExecute_thenThrowBulkheadFullException() throws Exception {
+        // given - precondition or setup
+        CountDownLatch acquired = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Object> holder = executor.submit(() -> {
+            try {
+                return bulkhead.execute(() -> {
+                    acquired.countDown();
+                    return release.await(5, TimeUnit.SECONDS);
+                });
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        acquired.await(5, TimeUnit.SECONDS);
+
+        // when - action or the behaviour that we are going test
+        assertThrows(BulkheadFullException.class, () -> bulkhead.execute(() -> "never"));
+
+        // then - verify the output
+        release.countDown();
+        assertThat(holder.get(5, TimeUnit.SECONDS)).isEqualTo(true);
+        assertThat(bulkhead.availablePermits()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @DisplayName("JUnit test for holding a permit while a connection is open")
+    @Test
+    public void givenOpenConnection_whenGetAnotherConnection_thenThrowBulkheadFullException() throws Exception {
+        // given - precondition or setup
+        DataSource dataSource = (DataSource) bulkhead.postProcessAfterInitialization(
+                new DriverManagerDataSource("jdbc:h2:mem:bulkhead;DB_CLOSE_DELAY=-1", "sa", ""), "dataSource");
+        Connection connection = dataSource.getConnection();
+
+        // when - action or the behaviour that we are going test
+        assertThrows(BulkheadFullException.class, dataSource::getConnection);
+        connection.close();
+
+        // then - verify the output
+        assertThat(bulkhead.availablePermits()).isEqualTo(1);
+        try (Connection reopened = dataSource.getConnection()) {
+            assertThat(reopened.isValid(1)).isTrue();
+        }
+    }
+
+    @DisplayName("JUnit test for sharing a held permit with the connections opened under it")
+    @Test
+    public void givenHeldPermit_whenGetConnection_thenUseSamePermit() throws Throwable {
+        // given - precondition or setup
+        DataSource dataSource = (DataSource) bulkhead.postProcessAfterInitialization(
+                new DriverManagerDataSource("jdbc:h2:mem:bulkhead;DB_CLOSE_DELAY=-1", "sa", ""), "dataSource");
+
+        // when - action or the behaviour that we are going test
+        Object valid = bulkhead.execute(() -> {
+            try (Connection connection = dataSource.getConnection()) {
+                return connection.isValid(1);
+            }
+        });
+
+        // then - verify the output
+        assertThat(valid).isEqualTo(true);
+        assertThat(bulkhead.availablePermits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,124 @@
+package dev.angelcruzl.cache;
+
+import dev.angelcruzl.datasource.ReadYourWrites;
+import dev.angelcruzl.model.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class StudentCacheTests {
+
+    private StudentCache cache;
+
+    private Student student;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new StudentCache(100, Duration.ofMinutes(5), Duration.ofSeconds(5));
+        student = Student.builder()
+                .id(1L)
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .build();
+    }
+
+    @DisplayName("JUnit test for cache hit after the first load")
+    @Test
+    public void givenLoadedStudent_whenGetAgain_thenServeFromCache() {
+        // given - precondition or setup
+        AtomicInteger loads = new AtomicInteger();
+
+        // when - action or the behaviour that we are going test
+        cache.get(student.getId(), id -> {
+            loads.incrementAndGet();
+            return Optional.of(student);
+        });
+        Optional<Student> cached = cache.get(student.getId(), id -> {
+            loads.incrementAndGet();
+            return Optional.of(student);
+        });
+
+        // then - verify the output
+        assertThat(cached).contains(student);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @DisplayName("JUnit test for loading a cold cache entry without pinning")
+    @Test
+    public void givenColdCacheMiss_whenGet_thenLoadWithoutPinning() {
+        // given - precondition or setup
+        AtomicBoolean pinnedDuringLoad = new AtomicBoolean();
+
+        // when - action or the behaviour that we are going test
+        cache.get(student.getId(), id -> {
+            pinnedDuringLoad.set(ReadYourWrites.isPinned());
+            return Optional.of(student);
+        });
+
+        // then - verify the output
+        assertThat(pinnedDuringLoad.get()).isFalse();
+    }
+
+    @DisplayName("JUnit test for loading a recently written student from the primary")
+    @Test
+    public void givenRecentlyWrittenStudent_whenGet_thenLoadPinnedToPrimary() {
+        // given - precondition or setup
+        AtomicBoolean pinnedDuringLoad = new AtomicBoolean();
+        cache.invalidate(student.getId());
+
+        // when - action or the behaviour that we are going test
+        cache.get(student.getId(), id -> {
+            pinnedDuringLoad.set(ReadYourWrites.isPinned());
+            return Optional.of(student);
+        });
+
+        // then - verify the output
+        assertThat(pinnedDuringLoad.get()).isTrue();
+        assertThat(ReadYourWrites.isPinned()).isFalse();
+    }
+
+    @DisplayName("JUnit test for cache invalidation")
+    @Test
+    public void givenCachedStudent_whenInvalidate_thenLoadAgain() {
+        // given - precondition or setup
+        cache.get(student.getId(), id -> Optional.of(student));
+
+        // when - action or the behaviour that we are going test
+        cache.invalidate(student.getId());
+
+        // then - verify the output
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @DisplayName("JUnit test for a write racing a cache load")
+    @Test
+    public void givenInvalidationDuringLoad_whenLoadCompletes_thenStaleStudentIsNotCached() {
+        // given - precondition or setup
+        Student staleStudent = Student.builder()
+                .id(student.getId())
+                .firstName("Stale")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .build();
+
+        // when - action or the behaviour that we are going test
+        cache.get(student.getId(), id -> {
+            cache.invalidate(id);
+            return Optional.of(staleStudent);
+        });
+        Optional<Student> reloaded = cache.get(student.getId(), id -> Optional.of(student));
+
+        // then - verify the output
+        assertThat(reloaded).contains(student);
+    }
+}
@@ -0,0 +1,86 @@
+package dev.angelcruzl.controller;
+
+import dev.angelcruzl.dto.StudentView;
+import dev.angelcruzl.repository.ReactiveStudentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReactiveStudentController.class)
+public class ReactiveStudentControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ReactiveStudentRepository repository;
+
+    @DisplayName("JUnit test for reactive get student by id operation")
+    @Test
+    public void givenStudentId_whenGetStudentById_thenReturnStudentWithETag() throws Exception {
+        // given - precondition or setup
+        given(repository.findById(1L)).willReturn(Mono.just(new StudentView(1L, "Angel", "Cruz", "me@angelcruzl.dev", 2L)));
+
+        // when - action or the behaviour that we are going test
+        MvcResult result = mockMvc.perform(get("/api/v1/reactive/students/{id}", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions response = mockMvc.perform(asyncDispatch(result));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(jsonPath("$.email", is("me@angelcruzl.dev")));
+    }
+
+    @DisplayName("JUnit test for reactive get student by id operation with non-existing student id")
+    @Test
+    public void givenUnknownId_whenGetStudentById_thenReturnNotFound() throws Exception {
+        // given - precondition or setup
+        given(repository.findById(1L)).willReturn(Mono.empty());
+
+        // when - action or the behaviour that we are going test
+        MvcResult result = mockMvc.perform(get("/api/v1/reactive/students/{id}", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions response = mockMvc.perform(asyncDispatch(result));
+
+        // then - verify the output
+        response.andExpect(status().isNotFound());
+    }
+
+    @DisplayName("JUnit test for reactive get students page operation")
+    @Test
+    public void givenLimit_whenGetStudentsPage_thenReturnPageWithNextCursor() throws Exception {
+        // given - precondition or setup
+        given(repository.findPage(0L, 2)).willReturn(Flux.just(
+                new StudentView(1L, "Angel", "Cruz", "me@angelcruzl.dev", 0L),
+                new StudentView(2L, "John", "Doe", "john@doe", 0L)));
+
+        // when - action or the behaviour that we are going test
+        MvcResult result = mockMvc.perform(get("/api/v1/reactive/students").param("limit", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions response = mockMvc.perform(asyncDispatch(result));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.content.size()", is(1)))
+                .andExpect(jsonPath("$.nextCursor", is("MQ")));
+    }
+}
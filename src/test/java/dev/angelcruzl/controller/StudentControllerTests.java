@@ -1,39 +1,69 @@
 package dev.angelcruzl.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import dev.angelcruzl.dto.CursorPage;
+import dev.angelcruzl.dto.ImportReport;
+import dev.angelcruzl.dto.IngestStatus;
+import dev.angelcruzl.dto.StudentView;
+import dev.angelcruzl.exception.IngestQueueFullException;
+import dev.angelcruzl.exception.DuplicateEmailException;
+import dev.angelcruzl.exception.ResourceConflictException;
+import dev.angelcruzl.exception.ResourceNotFoundException;
+import dev.angelcruzl.export.ExportExecutor;
 import dev.angelcruzl.model.Student;
+import dev.angelcruzl.service.StudentImportService;
+import dev.angelcruzl.service.StudentIngestService;
 import dev.angelcruzl.service.StudentService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.hamcrest.CoreMatchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(StudentController.class)
+@Import(ExportExecutor.class)
 public class StudentControllerTests {
 
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
     @Autowired
     private MockMvc mockMvc;
 
     @MockBean
     private StudentService service;
 
+    @MockBean
+    private StudentImportService importService;
+
+    @MockBean
+    private StudentIngestService ingestService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -63,31 +93,338 @@ public class StudentControllerTests {
                 .andExpect(jsonPath("$.email", is(student.getEmail())));
     }
 
+    @DisplayName("JUnit test for asynchronous create student operation")
+    @Test
+    public void givenStudentObject_whenSubmitStudent_thenReturnAcceptedTicket() throws Exception {
+        // given - precondition or setup
+        Student student = Student.builder()
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .build();
+
+        given(ingestService.submit(any(Student.class))).willReturn(IngestStatus.pending("ticket-1"));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(post("/api/v1/students/async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(student)));
+
+        // then - verify the output
+        response.andExpect(status().isAccepted())
+                .andDo(print())
+                .andExpect(header().string("Location", "/api/v1/students/async/ticket-1"))
+                .andExpect(jsonPath("$.state", is("PENDING")));
+    }
+
+    @DisplayName("JUnit test for asynchronous create student operation with a full queue")
+    @Test
+    public void givenFullQueue_whenSubmitStudent_thenReturnServiceUnavailable() throws Exception {
+        // given - precondition or setup
+        given(ingestService.submit(any(Student.class)))
+                .willThrow(new IngestQueueFullException("Student ingestion queue is full"));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(post("/api/v1/students/async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"firstName\":\"Angel\",\"lastName\":\"Cruz\",\"email\":\"me@angelcruzl.dev\"}"));
+
+        // then - verify the output
+        response.andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @DisplayName("JUnit test for asynchronous create status operation")
+    @Test
+    public void givenTicketId_whenGetIngestStatus_thenReturnStatus() throws Exception {
+        // given - precondition or setup
+        given(ingestService.getStatus("ticket-1")).willReturn(Optional.of(IngestStatus.created("ticket-1", 7L)));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/students/async/{ticketId}", "ticket-1"));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.state", is("CREATED")))
+                .andExpect(jsonPath("$.studentId", is(7)));
+    }
+
+    @DisplayName("JUnit test for create students batch operation")
+    @Test
+    public void givenStudentsList_whenCreateStudents_thenReturnStudentsList() throws Exception {
+        // given - precondition or setup
+        List<Student> studentList = List.of(
+                Student.builder()
+                        .firstName("Angel")
+                        .lastName("Cruz")
+                        .email("me@angelcruzl.dev")
+                        .build(),
+                Student.builder()
+                        .firstName("John")
+                        .lastName("Doe")
+                        .email("john@doe")
+                        .build());
+
+        given(service.createStudents(any()))
+                .willAnswer((invocation) -> invocation.getArgument(0));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(post("/api/v1/students/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(studentList)));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isCreated())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(studentList.size())))
+                .andExpect(jsonPath("$[1].email", is("john@doe")));
+    }
+
+    @DisplayName("JUnit test for import students operation")
+    @Test
+    public void givenCsvBody_whenImportStudents_thenReturnImportReport() throws Exception {
+        // given - precondition or setup
+        ImportReport report = new ImportReport();
+        report.addImported(1);
+        report.addReject(3, "missing email");
+
+        given(importService.importStudents(any())).willReturn(report);
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(post("/api/v1/students/import")
+                .contentType("text/csv")
+                .content("first_name,last_name,email\nAngel,Cruz,me@angelcruzl.dev\nJohn,Doe,\n"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.imported", is(1)))
+                .andExpect(jsonPath("$.rejected", is(1)))
+                .andExpect(jsonPath("$.rejects[0].line", is(3)))
+                .andExpect(jsonPath("$.rejects[0].reason", is("missing email")));
+    }
+
     @DisplayName("JUnit test for get all students operation")
     @Test
     public void givenStudentsList_whenFindAll_thenStudentsList() throws Exception {
         // given - precondition or setup
-        List<Student> studentList = new ArrayList<>();
-        studentList.add(Student.builder()
+        List<StudentView> studentList = new ArrayList<>();
+        studentList.add(new StudentView(1L, "Angel", "Cruz", "me@angelcruzl.dev", 0L));
+        studentList.add(new StudentView(2L, "John", "Doe", "john@doe", 0L));
+
+        given(service.getAllStudents()).willReturn(studentList);
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/students"));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(studentList.size())));
+    }
+
+    @DisplayName("JUnit test for get all students operation encoded as CBOR")
+    @Test
+    public void givenStudentsList_whenFindAllAcceptingCbor_thenCborStudentsList() throws Exception {
+        // given - precondition or setup
+        List<StudentView> studentList = new ArrayList<>();
+        studentList.add(new StudentView(1L, "Angel", "Cruz", "me@angelcruzl.dev", 0L));
+        studentList.add(new StudentView(2L, "John", "Doe", "john@doe", 0L));
+
+        given(service.getAllStudents()).willReturn(studentList);
+
+        // when - action or the behaviour that we are going test
+        MvcResult result = mockMvc.perform(get("/api/v1/students").accept(MediaType.APPLICATION_CBOR))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        // then - verify the output
+        JsonNode students = new CBORMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertThat(students.size()).isEqualTo(studentList.size());
+        assertThat(students.get(0).get("email").asText()).isEqualTo("me@angelcruzl.dev");
+    }
+
+    @DisplayName("JUnit test for create student operation with a Smile body")
+    @Test
+    public void givenSmileStudentObject_whenCreateStudent_thenReturnStudent() throws Exception {
+        // given - precondition or setup
+        Student student = Student.builder()
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .build();
+
+        given(service.createStudent(any(Student.class)))
+                .willAnswer((invocation) -> invocation.getArgument(0));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(post("/api/v1/students")
+                .contentType(APPLICATION_SMILE)
+                .content(new SmileMapper().writeValueAsBytes(student)));
+
+        // then - verify the output
+        response.andExpect(status().isCreated())
+                .andDo(print())
+                .andExpect(jsonPath("$.email", is(student.getEmail())));
+    }
+
+    @DisplayName("JUnit test for get students page operation")
+    @Test
+    public void givenCursorAndLimit_whenGetStudentsPage_thenReturnPage() throws Exception {
+        // given - precondition or setup
+        List<StudentView> studentList = List.of(new StudentView(2L, "Angel", "Cruz", "me@angelcruzl.dev", 0L));
+
+        given(service.getStudentsPage("MQ", 1)).willReturn(new CursorPage<>(studentList, "Mg"));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/students")
+                .param("after", "MQ")
+                .param("limit", "1"));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.content.size()", is(1)))
+                .andExpect(jsonPath("$.content[0].id", is(2)))
+                .andExpect(jsonPath("$.nextCursor", is("Mg")));
+    }
+
+    @DisplayName("JUnit test for get students page operation with invalid limit")
+    @Test
+    public void givenInvalidLimit_whenGetStudentsPage_thenReturnBadRequest() throws Exception {
+        // given - precondition or setup
+        given(service.getStudentsPage(null, 0)).willThrow(new IllegalArgumentException("limit must be between 1 and 1000"));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/students").param("limit", "0"));
+
+        // then - verify the output
+        response.andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("JUnit test for search students operation")
+    @Test
+    public void givenQuery_whenSearchStudents_thenReturnMatchingStudents() throws Exception {
+        // given - precondition or setup
+        List<StudentView> studentList = List.of(new StudentView(1L, "Angel", "Cruz", "me@angelcruzl.dev", 0L));
+
+        given(service.searchStudents("cru", null, 20)).willReturn(new CursorPage<>(studentList, "next"));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/students/search").param("q", "cru"));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.content.size()", is(1)))
+                .andExpect(jsonPath("$.content[0].lastName", is("Cruz")))
+                .andExpect(jsonPath("$.nextCursor", is("next")));
+    }
+
+    @DisplayName("JUnit test for search students operation with a short query")
+    @Test
+    public void givenShortQuery_whenSearchStudents_thenReturnBadRequest() throws Exception {
+        // given - precondition or setup
+        given(service.searchStudents("a", null, 20)).willThrow(new IllegalArgumentException("q must have at least 3 characters"));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/students/search").param("q", "a"));
+
+        // then - verify the output
+        response.andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("JUnit test for typeahead operation")
+    @Test
+    public void givenQuery_whenTypeahead_thenReturnSuggestions() throws Exception {
+        // given - precondition or setup
+        List<StudentView> studentList = List.of(new StudentView(1L, "Angel", "Cruz", "me@angelcruzl.dev", 0L));
+
+        given(service.typeahead("an", 5)).willReturn(studentList);
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/students/typeahead")
+                .param("q", "an")
+                .param("limit", "5"));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(1)))
+                .andExpect(jsonPath("$[0].firstName", is("Angel")));
+    }
+
+    @DisplayName("JUnit test for get all students operation with sparse fieldset")
+    @Test
+    public void givenFields_whenFindAll_thenReturnOnlySelectedFields() throws Exception {
+        // given - precondition or setup
+        given(service.getAllStudentFields(Set.of("email")))
+                .willReturn(List.of(Map.of("id", 1L, "email", "me@angelcruzl.dev")));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/students").param("fields", "email"));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$[0].email", is("me@angelcruzl.dev")))
+                .andExpect(jsonPath("$[0].firstName").doesNotExist());
+    }
+
+    @DisplayName("JUnit test for get student by id operation with sparse fieldset")
+    @Test
+    public void givenFields_whenFindById_thenReturnOnlySelectedFields() throws Exception {
+        // given - precondition or setup
+        given(service.getStudentFieldsById(1L, Set.of("firstName", "lastName")))
+                .willReturn(Optional.of(Map.of("id", 1L, "firstName", "Angel", "lastName", "Cruz")));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/students/{id}", 1L).param("fields", "firstName,lastName"));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName", is("Angel")))
+                .andExpect(jsonPath("$.email").doesNotExist());
+    }
+
+    @DisplayName("JUnit test for export students operation")
+    @Test
+    public void givenStudentsList_whenExportStudents_thenReturnNdjson() throws Exception {
+        // given - precondition or setup
+        Student student = Student.builder()
+                .id(1L)
                 .firstName("Angel")
                 .lastName("Cruz")
                 .email("me@angelcruzl.dev")
-                .build());
-        studentList.add(Student.builder()
+                .build();
+        Student student2 = Student.builder()
+                .id(2L)
                 .firstName("John")
                 .lastName("Doe")
                 .email("john@doe")
-                .build());
+                .build();
 
-        given(service.getAllStudents()).willReturn(studentList);
+        willAnswer(invocation -> {
+            Consumer<Student> consumer = invocation.getArgument(0);
+            consumer.accept(student);
+            consumer.accept(student2);
+            return null;
+        }).given(service).exportStudents(any());
 
         // when - action or the behaviour that we are going test
-        ResultActions response = mockMvc.perform(get("/api/v1/students"));
+        MvcResult result = mockMvc.perform(get("/api/v1/students/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions response = mockMvc.perform(asyncDispatch(result));
 
         // then - verify the output
         response.andExpect(status().isOk())
                 .andDo(print())
-                .andExpect(jsonPath("$.size()", is(studentList.size())));
+                .andExpect(content().string(objectMapper.writeValueAsString(student) + "\n"
+                        + objectMapper.writeValueAsString(student2) + "\n"));
     }
 
     @DisplayName("JUnit test for get student by id operation")
@@ -114,6 +451,50 @@ public class StudentControllerTests {
                 .andExpect(jsonPath("$.email", is(student.getEmail())));
     }
 
+    @DisplayName("JUnit test for get student by id operation returning an ETag")
+    @Test
+    public void givenVersionedStudent_whenFindById_thenReturnETag() throws Exception {
+        // given - precondition or setup
+        Student student = Student.builder()
+                .id(1L)
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .version(3L)
+                .build();
+        given(service.getStudentById(student.getId())).willReturn(Optional.of(student));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/students/{id}", student.getId()));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""));
+    }
+
+    @DisplayName("JUnit test for get student by id operation with matching If-None-Match")
+    @Test
+    public void givenMatchingIfNoneMatch_whenFindById_thenReturnNotModified() throws Exception {
+        // given - precondition or setup
+        Student student = Student.builder()
+                .id(1L)
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .version(3L)
+                .build();
+        given(service.getStudentById(student.getId())).willReturn(Optional.of(student));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/students/{id}", student.getId())
+                .header("If-None-Match", "W/\"2\", \"3\""));
+
+        // then - verify the output
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(content().string(""));
+    }
+
     @DisplayName("JUnit test for get student by id operation with non-existing student id")
     @Test
     public void givenStudentId_whenFindById_thenReturnEmpty() throws Exception {
@@ -146,7 +527,6 @@ public class StudentControllerTests {
                 .email("mail@sample.com")
                 .build();
 
-        given(service.getStudentById(student.getId())).willReturn(Optional.of(student));
         given(service.updateStudent(any(Student.class))).willAnswer((invocation) -> invocation.getArgument(0));
 
         // when - action or the behaviour that we are going test
@@ -175,7 +555,8 @@ public class StudentControllerTests {
                 .email("me@angelcruzl.dev")
                 .build();
 
-        given(service.getStudentById(studentId)).willReturn(Optional.empty());
+        given(service.updateStudent(any(Student.class)))
+                .willThrow(new ResourceNotFoundException("Student with id " + studentId + " not found"));
 
         // when - action or the behaviour that we are going test
         ResultActions response = mockMvc.perform(put("/api/v1/students/{id}", studentId)
@@ -187,6 +568,126 @@ public class StudentControllerTests {
                 .andDo(print());
     }
 
+    @DisplayName("JUnit test for conditional update student operation with stale If-Match")
+    @Test
+    public void givenStaleIfMatch_whenUpdateStudent_thenReturnPreconditionFailed() throws Exception {
+        // given - precondition or setup
+        long studentId = 1L;
+        Student updatedStudent = Student.builder()
+                .firstName("Luis")
+                .lastName("Lara")
+                .email("me@angelcruzl.dev")
+                .build();
+
+        given(service.updateStudent(any(Student.class)))
+                .willThrow(new ResourceConflictException("Student with id " + studentId + " was modified after version 2"));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(put("/api/v1/students/{id}", studentId)
+                .header("If-Match", "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedStudent)));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isPreconditionFailed());
+    }
+
+    @DisplayName("JUnit test for update student operation with an email already in use")
+    @Test
+    public void givenExistingEmail_whenUpdateStudent_thenReturnConflict() throws Exception {
+        // given - precondition or setup
+        long studentId = 1L;
+        Student updatedStudent = Student.builder()
+                .firstName("Luis")
+                .lastName("Lara")
+                .email("john@doe")
+                .build();
+
+        given(service.updateStudent(any(Student.class)))
+                .willThrow(new DuplicateEmailException("Student with email john@doe already exists", null));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(put("/api/v1/students/{id}", studentId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedStudent)));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isConflict());
+    }
+
+    @DisplayName("JUnit test for conditional update student operation with current If-Match")
+    @Test
+    public void givenCurrentIfMatch_whenUpdateStudent_thenReturnNewETag() throws Exception {
+        // given - precondition or setup
+        long studentId = 1L;
+        Student updatedStudent = Student.builder()
+                .firstName("Luis")
+                .lastName("Lara")
+                .email("me@angelcruzl.dev")
+                .build();
+
+        given(service.updateStudent(any(Student.class))).willAnswer((invocation) -> {
+            Student student = invocation.getArgument(0);
+            student.setVersion(student.getVersion() + 1);
+            return student;
+        });
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(put("/api/v1/students/{id}", studentId)
+                .header("If-Match", "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedStudent)));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.version", is(3)));
+    }
+
+    @DisplayName("JUnit test for patch student operation")
+    @Test
+    public void givenMergePatch_whenPatchStudent_thenReturnPatchedStudent() throws Exception {
+        // given - precondition or setup
+        Student student = Student.builder()
+                .id(1L)
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("mail@sample.com")
+                .version(4L)
+                .build();
+
+        given(service.patchStudent(1L, 3L, Map.of("email", "mail@sample.com"))).willReturn(student);
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(patch("/api/v1/students/{id}", student.getId())
+                .header("If-Match", "\"3\"")
+                .contentType("application/merge-patch+json")
+                .content("{\"email\": \"mail@sample.com\"}"));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$.email", is("mail@sample.com")))
+                .andExpect(jsonPath("$.firstName", is("Angel")));
+    }
+
+    @DisplayName("JUnit test for patch student operation with non-existing student id")
+    @Test
+    public void givenMergePatch_whenPatchMissingStudent_thenReturnNotFound() throws Exception {
+        // given - precondition or setup
+        given(service.patchStudent(any(), isNull(), any()))
+                .willThrow(new ResourceNotFoundException("Student with id 1 not found"));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(patch("/api/v1/students/{id}", 1L)
+                .contentType("application/merge-patch+json")
+                .content("{\"email\": \"mail@sample.com\"}"));
+
+        // then - verify the output
+        response.andExpect(status().isNotFound());
+    }
+
     @DisplayName("JUnit test for delete student operation")
     @Test
     public void givenStudentId_whenDeleteStudent_thenReturnSuccessMessage() throws Exception {
@@ -201,4 +702,34 @@ public class StudentControllerTests {
         response.andExpect(status().isOk())
                 .andExpect(jsonPath("$", is("Student with id " + studentId + " deleted successfully")));
     }
+
+    @DisplayName("JUnit test for bulk delete students operation")
+    @Test
+    public void givenStudentIds_whenDeleteStudents_thenReturnSuccessMessage() throws Exception {
+        // given - precondition or setup
+        given(service.deleteStudents(List.of(1L, 2L, 3L))).willReturn(2);
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(delete("/api/v1/students").param("ids", "1,2,3"));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$", is("2 students deleted successfully")));
+    }
+
+    @DisplayName("JUnit test for bulk delete students operation with ids in the body")
+    @Test
+    public void givenStudentIdsInBody_whenDeleteStudents_thenReturnSuccessMessage() throws Exception {
+        // given - precondition or setup
+        given(service.deleteStudents(List.of(1L, 2L, 3L))).willReturn(3);
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(post("/api/v1/students/delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(1L, 2L, 3L))));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$", is("3 students deleted successfully")));
+    }
 }
@@ -0,0 +1,64 @@
+package dev.angelcruzl.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class ReadYourWritesFilterTests {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5));
+
+    @DisplayName("JUnit test for pinning writes to the primary")
+    @Test
+    public void givenWriteRequest_whenFilter_thenPinAndSetCookie() throws Exception {
+        // given - precondition or setup
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/v1/students/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicBoolean pinned = new AtomicBoolean();
+
+        // when - action or the behaviour that we are going test
+        filter.doFilter(request, response, (req, res) -> pinned.set(ReadYourWrites.isPinned()));
+
+        // then - verify the output
+        assertThat(pinned.get()).isTrue();
+        assertThat(response.getCookie(ReadYourWritesFilter.COOKIE)).isNotNull();
+        assertThat(ReadYourWrites.isPinned()).isFalse();
+    }
+
+    @DisplayName("JUnit test for pinning reads inside the sticky window")
+    @Test
+    public void givenReadWithRecentWriteCookie_whenFilter_thenPin() throws Exception {
+        // given - precondition or setup
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/students/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(System.currentTimeMillis() + 5000)));
+        AtomicBoolean pinned = new AtomicBoolean();
+
+        // when - action or the behaviour that we are going test
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> pinned.set(ReadYourWrites.isPinned()));
+
+        // then - verify the output
+        assertThat(pinned.get()).isTrue();
+    }
+
+    @DisplayName("JUnit test for reading from replicas after the sticky window")
+    @Test
+    public void givenReadWithExpiredCookie_whenFilter_thenDoNotPin() throws Exception {
+        // given - precondition or setup
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/students/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(System.currentTimeMillis() - 1)));
+        AtomicBoolean pinned = new AtomicBoolean(true);
+
+        // when - action or the behaviour that we are going test
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> pinned.set(ReadYourWrites.isPinned()));
+
+        // then - verify the output
+        assertThat(pinned.get()).isFalse();
+    }
+}
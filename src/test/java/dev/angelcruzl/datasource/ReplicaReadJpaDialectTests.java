@@ -0,0 +1,89 @@
+package dev.angelcruzl.datasource;
+
+import dev.angelcruzl.config.SecondLevelCacheConfig;
+import dev.angelcruzl.model.Student;
+import dev.angelcruzl.repository.StudentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.jpa.JpaVendorAdapter;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+// Repository reads run in their own read-only transactions, the ones that would be routed to a replica.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(SecondLevelCacheConfig.class)
+public class ReplicaReadJpaDialectTests {
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Student student;
+
+    @BeforeEach
+    public void setUp() {
+        student = repository.save(Student.builder()
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .build());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ReadYourWrites.clear();
+        repository.deleteAllInBatch();
+    }
+
+    @DisplayName("JUnit test for keeping replica reads out of the second-level cache")
+    @Test
+    public void givenReadOnlyTransaction_whenFindById_thenStudentIsNotCached() {
+        // when - action or the behaviour that we are going test
+        repository.findById(student.getId());
+
+        // then - verify the output
+        assertThat(entityManagerFactory.getCache().contains(Student.class, student.getId())).isFalse();
+    }
+
+    @DisplayName("JUnit test for caching reads pinned to the primary")
+    @Test
+    public void givenPinnedThread_whenFindById_thenStudentIsCached() {
+        // when - action or the behaviour that we are going test
+        ReadYourWrites.onPrimary(() -> repository.findById(student.getId()));
+
+        // then - verify the output
+        assertThat(entityManagerFactory.getCache().contains(Student.class, student.getId())).isTrue();
+        assertThat(ReadYourWrites.isPinned()).isFalse();
+    }
+
+    @TestConfiguration
+    static class ReplicaReadConfig {
+
+        @Bean
+        public JpaVendorAdapter jpaVendorAdapter() {
+            HibernateJpaDialect jpaDialect = new ReplicaReadJpaDialect();
+            return new HibernateJpaVendorAdapter() {
+                @Override
+                public HibernateJpaDialect getJpaDialect() {
+                    return jpaDialect;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package dev.angelcruzl.datasource;
+
+import dev.angelcruzl.cache.StudentCache;
+import dev.angelcruzl.model.Student;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class ReplicaRoutingTests {
+
+    private DataSource primary;
+
+    private DataSource replica;
+
+    @BeforeEach
+    public void setUp() {
+        primary = node("routing_primary");
+        replica = node("routing_replica");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ReadYourWrites.clear();
+    }
+
+    @DisplayName("JUnit test for routing read-only transactions to a replica")
+    @Test
+    public void givenReadOnlyTransaction_whenQuery_thenUseReplica() {
+        // given - precondition or setup
+        ReplicaPool replicaPool = new ReplicaPool(primary, List.of(replica), Duration.ofSeconds(1));
+
+        // when - action or the behaviour that we are going test
+        String node = queryNode(replicaPool, true);
+
+        // then - verify the output
+        assertThat(node).isEqualTo("routing_replica");
+    }
+
+    @DisplayName("JUnit test for routing read-write transactions to the primary")
+    @Test
+    public void givenReadWriteTransaction_whenQuery_thenUsePrimary() {
+        // given - precondition or setup
+        ReplicaPool replicaPool = new ReplicaPool(primary, List.of(replica), Duration.ofSeconds(1));
+
+        // when - action or the behaviour that we are going test
+        String node = queryNode(replicaPool, false);
+
+        // then - verify the output
+        assertThat(node).isEqualTo("routing_primary");
+    }
+
+    @DisplayName("JUnit test for reading own writes from the primary")
+    @Test
+    public void givenPinnedThread_whenReadOnlyQuery_thenUsePrimary() {
+        // given - precondition or setup
+        ReplicaPool replicaPool = new ReplicaPool(primary, List.of(replica), Duration.ofSeconds(1));
+        ReadYourWrites.pinToPrimary();
+
+        // when - action or the behaviour that we are going test
+        String node = queryNode(replicaPool, true);
+
+        // then - verify the output
+        assertThat(node).isEqualTo("routing_primary");
+    }
+
+    @DisplayName("JUnit test for skipping replicas that fail their health check")
+    @Test
+    public void givenUnavailableReplica_whenCheckHealthAndQuery_thenUsePrimary() {
+        // given - precondition or setup
+        ReplicaPool replicaPool = new ReplicaPool(primary, List.of(new UnavailableDataSource()), Duration.ofSeconds(1));
+
+        // when - action or the behaviour that we are going test
+        replicaPool.checkHealth();
+        String node = queryNode(replicaPool, true);
+
+        // then - verify the output
+        assertThat(replicaPool.healthyReplicas()).isEqualTo(0);
+        assertThat(node).isEqualTo("routing_primary");
+    }
+
+    @DisplayName("JUnit test for loading a cold student cache entry from a replica")
+    @Test
+    public void givenColdStudentCache_whenGet_thenLoadFromReplica() {
+        // given - precondition or setup
+        ReplicaPool replicaPool = new ReplicaPool(primary, List.of(replica), Duration.ofSeconds(1));
+        StudentCache cache = new StudentCache(100, Duration.ofMinutes(5), Duration.ofSeconds(5));
+
+        // when - action or the behaviour that we are going test
+        Optional<Student> student = cache.get(1L, id -> Optional.of(nodeStudent(id, replicaPool)));
+
+        // then - verify the output
+        assertThat(student.get().getFirstName()).isEqualTo("routing_replica");
+    }
+
+    @DisplayName("JUnit test for loading a recently written student from the primary")
+    @Test
+    public void givenRecentlyWrittenStudent_whenGet_thenLoadFromPrimary() {
+        // given - precondition or setup
+        ReplicaPool replicaPool = new ReplicaPool(primary, List.of(replica), Duration.ofSeconds(1));
+        StudentCache cache = new StudentCache(100, Duration.ofMinutes(5), Duration.ofSeconds(5));
+        cache.invalidate(1L);
+
+        // when - action or the behaviour that we are going test
+        Optional<Student> student = cache.get(1L, id -> Optional.of(nodeStudent(id, replicaPool)));
+
+        // then - verify the output
+        assertThat(student.get().getFirstName()).isEqualTo("routing_primary");
+    }
+
+    private Student nodeStudent(Long id, ReplicaPool replicaPool) {
+        return Student.builder().id(id).firstName(queryNode(replicaPool, true)).build();
+    }
+
+    private String queryNode(ReplicaPool replicaPool, boolean readOnly) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(replicaPool);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("select name from node", String.class));
+    }
+
+    private static DataSource node(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("drop table if exists node");
+        jdbcTemplate.execute("create table node (name varchar(50))");
+        jdbcTemplate.update("insert into node (name) values (?)", name);
+        return dataSource;
+    }
+
+    private static class UnavailableDataSource extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            throw new SQLException("replica is down");
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new SQLException("replica is down");
+        }
+    }
+}
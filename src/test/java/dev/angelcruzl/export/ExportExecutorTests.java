@@ -0,0 +1,69 @@
+package dev.angelcruzl.export;
+
+import dev.angelcruzl.exception.ExportCapacityExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ExportExecutorTests {
+
+    private ExportExecutor executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = new ExportExecutor(1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.destroy();
+    }
+
+    @DisplayName("JUnit test for rejecting an export when every slot is in use")
+    @Test
+    public void givenRunningExport_whenExecute_thenThrowExportCapacityExceededException() throws Exception {
+        // given - precondition or setup
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when - action or the behaviour that we are going test
+        assertThrows(ExportCapacityExceededException.class, () -> executor.execute(() -> {
+        }));
+
+        // then - verify the output
+        release.countDown();
+    }
+
+    @DisplayName("JUnit test for running an export once a slot is free again")
+    @Test
+    public void givenFinishedExport_whenExecute_thenRunExport() throws Exception {
+        // given - precondition or setup
+        CountDownLatch first = new CountDownLatch(1);
+        executor.execute(first::countDown);
+        assertThat(first.await(5, TimeUnit.SECONDS)).isTrue();
+        TimeUnit.MILLISECONDS.sleep(50);
+
+        // when - action or the behaviour that we are going test
+        CountDownLatch second = new CountDownLatch(1);
+        executor.execute(second::countDown);
+
+        // then - verify the output
+        assertThat(second.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
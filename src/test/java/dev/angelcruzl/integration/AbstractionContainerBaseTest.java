@@ -17,5 +17,7 @@ public abstract class AbstractionContainerBaseTest {
         registry.add("spring.datasource.url", POSTGRESQL_CONTAINER::getJdbcUrl);
         registry.add("spring.datasource.username", POSTGRESQL_CONTAINER::getUsername);
         registry.add("spring.datasource.password", POSTGRESQL_CONTAINER::getPassword);
+        registry.add("students.reactive.r2dbc.url", () -> "r2dbc:postgresql://" + POSTGRESQL_CONTAINER.getHost() + ":"
+                + POSTGRESQL_CONTAINER.getFirstMappedPort() + "/" + POSTGRESQL_CONTAINER.getDatabaseName());
     }
 }
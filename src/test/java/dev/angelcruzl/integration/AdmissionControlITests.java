@@ -0,0 +1,98 @@
+package dev.angelcruzl.integration;
+
+import dev.angelcruzl.admission.AdmissionController;
+import dev.angelcruzl.model.Student;
+import dev.angelcruzl.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "students.admission.min-limit=2",
+        "students.admission.max-limit=20",
+        "students.admission.sample-interval=50ms",
+        "students.db.bulkhead.permits=2",
+        "students.db.bulkhead.timeout=30s"
+})
+public class AdmissionControlITests extends AbstractionContainerBaseTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private AdmissionController admissionController;
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    public void setUp() {
+        repository.deleteAll();
+        repository.save(Student.builder().firstName("Angel").lastName("Cruz").email("me@angelcruzl.dev").build());
+    }
+
+    @DisplayName("JUnit test for shedding requests while the database is slow")
+    @Test
+    public void givenLockedStudentsTable_whenGetAllStudents_thenShedRequests() throws Exception {
+        // given - precondition or setup
+        AtomicInteger shed = new AtomicInteger();
+        ExecutorService clients = Executors.newFixedThreadPool(32);
+        List<Future<?>> requests = new ArrayList<>();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("lock table students in access exclusive mode");
+            }
+
+            // when - action or the behaviour that we are going test
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+            for (int i = 0; i < 32; i++) {
+                requests.add(clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        HttpStatus status = HttpStatus.valueOf(
+                                restTemplate.getForEntity("/api/v1/students", String.class).getStatusCode().value());
+                        if (status == HttpStatus.SERVICE_UNAVAILABLE) {
+                            shed.incrementAndGet();
+                        }
+                        TimeUnit.MILLISECONDS.sleep(10);
+                    }
+                    return null;
+                }));
+            }
+            TimeUnit.SECONDS.sleep(3);
+            int congestedLimit = admissionController.limit();
+            connection.rollback();
+
+            for (Future<?> request : requests) {
+                request.get(30, TimeUnit.SECONDS);
+            }
+
+            // then - verify the output
+            assertThat(congestedLimit).isLessThan(20);
+            assertThat(shed.get()).isGreaterThan(0);
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+}
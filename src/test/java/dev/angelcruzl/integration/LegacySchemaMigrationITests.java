@@ -0,0 +1,95 @@
+package dev.angelcruzl.integration;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+// Runs the migrations the way an existing deployment sees them: a schema created by Hibernate's ddl-auto before
+// Flyway was added, with no schema history, baselined at V1 by baseline-on-migrate.
+public class LegacySchemaMigrationITests extends AbstractionContainerBaseTest {
+
+    private static final String DATABASE = "legacy_students";
+
+    private String url;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        try (Connection connection = connect(POSTGRESQL_CONTAINER.getJdbcUrl());
+             Statement statement = connection.createStatement()) {
+            statement.execute("drop database if exists " + DATABASE);
+            statement.execute("create database " + DATABASE);
+        }
+        url = POSTGRESQL_CONTAINER.getJdbcUrl().replace("/" + POSTGRESQL_CONTAINER.getDatabaseName(), "/" + DATABASE);
+
+        try (Connection connection = connect(url);
+             Statement statement = connection.createStatement()) {
+            statement.execute("create table students (id bigint generated by default as identity, "
+                    + "email varchar(255) not null, first_name varchar(255) not null, "
+                    + "last_name varchar(255) not null, primary key (id))");
+            statement.execute("insert into students (email, first_name, last_name) values "
+                    + "('me@angelcruzl.dev', 'Angel', 'Cruz'), "
+                    + "(' ME@angelcruzl.dev', 'Angel', 'Cruz'), "
+                    + "('john@doe', 'John', 'Doe')");
+        }
+    }
+
+    @DisplayName("JUnit test for migrating a schema created before Flyway")
+    @Test
+    public void givenBaselineEraSchema_whenMigrate_thenSchemaIsUpgraded() throws SQLException {
+        // given - precondition or setup
+        Flyway flyway = Flyway.configure()
+                .dataSource(url, POSTGRESQL_CONTAINER.getUsername(), POSTGRESQL_CONTAINER.getPassword())
+                .locations("classpath:db/migration/common", "classpath:db/migration/postgresql")
+                .baselineOnMigrate(true)
+                .load();
+
+        // when - action or the behaviour that we are going test
+        MigrateResult result = flyway.migrate();
+
+        // then - verify the output
+        assertThat(result.success).isTrue();
+        assertThat(result.migrationsExecuted).isEqualTo(4);
+        try (Connection connection = connect(url)) {
+            assertThat(queryString(connection, "select email_key from students where id = 1"))
+                    .isEqualTo("me@angelcruzl.dev");
+            assertThat(queryString(connection, "select email_key from students where id = 2"))
+                    .isEqualTo("me@angelcruzl.dev#2");
+            assertThat(queryLong(connection, "select student_id from students_email_key_conflicts")).isEqualTo(2L);
+            assertThat(queryLong(connection, "select count(*) from pg_constraint "
+                    + "where conname in ('uk_students_email', 'uk_students_email_key')")).isEqualTo(2L);
+            assertThat(queryLong(connection, "select count(*) from pg_indexes "
+                    + "where indexname = 'idx_students_email_key_trgm'")).isEqualTo(1L);
+            assertThat(queryLong(connection, "select count(*) from students where version = 0")).isEqualTo(3L);
+            assertThat(queryLong(connection, "select nextval('students_seq')")).isGreaterThan(3L);
+        }
+    }
+
+    private Connection connect(String jdbcUrl) throws SQLException {
+        return DriverManager.getConnection(jdbcUrl, POSTGRESQL_CONTAINER.getUsername(),
+                POSTGRESQL_CONTAINER.getPassword());
+    }
+
+    private static String queryString(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private static long queryLong(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package dev.angelcruzl.integration;
+
+import dev.angelcruzl.model.Student;
+import dev.angelcruzl.repository.StudentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability
+public class MetricsITests extends AbstractionContainerBaseTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private StudentRepository repository;
+
+    private Student student;
+
+    @BeforeEach
+    public void setUp() {
+        repository.deleteAll();
+        student = repository.save(Student.builder().firstName("Angel").lastName("Cruz").email("me@angelcruzl.dev").build());
+    }
+
+    @DisplayName("JUnit test for registered service, cache and search index meters")
+    @Test
+    public void givenServiceCalls_whenReadRegistry_thenMetersAreRegistered() {
+        // given - precondition or setup
+        restTemplate.getForEntity("/api/v1/students?limit=10", String.class);
+        restTemplate.getForEntity("/api/v1/students/{id}", String.class, student.getId());
+
+        // when - action or the behaviour that we are going test
+        // then - verify the output
+        assertThat(registry.find("students.service").tag("method", "getStudentsPage").timer()).isNotNull();
+        assertThat(registry.find("students.service").tag("method", "getStudentById").timer()).isNotNull();
+        assertThat(registry.find("cache.gets").tag("cache", "students").functionCounters().isEmpty()).isFalse();
+        assertThat(registry.find("cache.size").tag("cache", "students").gauge()).isNotNull();
+        assertThat(registry.find("students.search.index.size").gauge()).isNotNull();
+    }
+
+    @DisplayName("JUnit test for histogram buckets in the prometheus endpoint")
+    @Test
+    public void givenServiceCalls_whenScrapePrometheus_thenExposeHistogramBuckets() {
+        // given - precondition or setup
+        restTemplate.getForEntity("/api/v1/students?limit=10", String.class);
+
+        // when - action or the behaviour that we are going test
+        ResponseEntity<String> response = restTemplate.getForEntity("/actuator/prometheus", String.class);
+
+        // then - verify the output
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).contains("students_service_seconds_bucket{");
+        assertThat(response.getBody()).contains("http_server_requests_seconds_bucket{");
+        assertThat(response.getBody()).contains("cache_gets_total{");
+        assertThat(response.getBody()).contains("students_search_index_size{");
+    }
+}
@@ -3,12 +3,15 @@ package dev.angelcruzl.integration;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.angelcruzl.model.Student;
 import dev.angelcruzl.repository.StudentRepository;
+import dev.angelcruzl.sql.SqlBudget;
+import dev.angelcruzl.sql.SqlStatementCountingFilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -16,9 +19,11 @@ import org.springframework.test.web.servlet.ResultActions;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.hamcrest.CoreMatchers.is;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -155,6 +160,37 @@ public class StudentControllerITests extends AbstractionContainerBaseTest {
                 .andExpect(jsonPath("$.email", is(updatedStudent.getEmail())));
     }
 
+    @DisplayName("JUnit test for update student operation statement budget")
+    @Test
+    @SqlBudget(4)
+    public void givenStudentObject_whenUpdateStudent_thenRunSingleUpdateReturningVersion() throws Exception {
+        // given - precondition or setup
+        Student student = Student.builder()
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .build();
+        repository.save(student);
+
+        Student updatedStudent = Student.builder()
+                .firstName("Luis")
+                .lastName("Lara")
+                .email("mail@sample.com")
+                .build();
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(put("/api/v1/students/{id}", student.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedStudent)));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.version", is(1)))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(header().string(SqlStatementCountingFilter.HEADER, "1"));
+    }
+
     @DisplayName("JUnit test for update student operation with non-existing student id")
     @Test
     public void givenStudentIdAndUpdatedStudent_whenUpdateStudent_thenReturnNotFound() throws Exception {
@@ -195,4 +231,35 @@ public class StudentControllerITests extends AbstractionContainerBaseTest {
         response.andExpect(status().isOk())
                 .andExpect(jsonPath("$", is("Student with id " + student.getId() + " deleted successfully")));
     }
+
+    @DisplayName("JUnit test for create students batch operation with a client-supplied id")
+    @Test
+    public void givenBatchRowWithExistingId_whenCreateStudents_thenExistingStudentUnchanged() throws Exception {
+        // given - precondition or setup
+        Student existing = repository.save(Student.builder()
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .build());
+        Student row = Student.builder()
+                .id(existing.getId())
+                .version(existing.getVersion())
+                .firstName("John")
+                .lastName("Doe")
+                .email("john@doe")
+                .build();
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(post("/api/v1/students/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(row))));
+
+        // then - verify the output
+        response.andExpect(status().isCreated())
+                .andExpect(jsonPath("$[0].email", is("john@doe")));
+        Student unchanged = repository.findById(existing.getId()).get();
+        assertThat(unchanged.getFirstName()).isEqualTo("Angel");
+        assertThat(unchanged.getEmail()).isEqualTo("me@angelcruzl.dev");
+        assertThat(repository.count()).isEqualTo(2L);
+    }
 }
@@ -2,6 +2,7 @@ package dev.angelcruzl.integration;
 
 import dev.angelcruzl.model.Student;
 import dev.angelcruzl.repository.StudentRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,6 +11,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
@@ -20,6 +22,9 @@ public class StudentRepositoryITests extends AbstractionContainerBaseTest {
     @Autowired
     private StudentRepository repository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private Student student;
 
     @BeforeEach
@@ -124,6 +129,23 @@ public class StudentRepositoryITests extends AbstractionContainerBaseTest {
         assertThat(updatedStudent.getEmail()).isEqualTo("john@doe");
     }
 
+    @DisplayName("JUnit test for update by id returning version operation")
+    @Test
+    public void givenStudentObject_whenUpdateByIdReturningVersion_thenReturnNewVersion() {
+        // given - precondition or setup
+        repository.saveAndFlush(student);
+
+        // when - action or the behaviour that we are going test
+        Optional<Long> version = repository.updateByIdReturningVersion(student.getId(), "John", "Doe", "john@doe",
+                "john@doe");
+        Optional<Long> missing = repository.updateByIdReturningVersion(-1L, "John", "Doe", "john@doe", "john@doe");
+
+        // then - verify the output
+        assertThat(version).isEqualTo(Optional.of(1L));
+        assertThat(missing).isEqualTo(Optional.empty());
+        assertThat(repository.findById(student.getId()).get().getFirstName()).isEqualTo("John");
+    }
+
     @DisplayName("JUnit test for delete student operation")
     @Test
     public void givenStudentId_whenDelete_thenStudentDeleted() {
@@ -137,4 +159,28 @@ public class StudentRepositoryITests extends AbstractionContainerBaseTest {
         assertThat(repository.findById(student.getId())).isEmpty();
     }
 
+    @DisplayName("JUnit test for search page query plan")
+    @Test
+    public void givenManyMatchingStudents_whenExplainSearchPage_thenNoFullSort() {
+        // given - precondition or setup
+        entityManager.createNativeQuery("insert into students (id, first_name, last_name, email, email_key, version) "
+                + "select nextval('students_seq'), 'First' || n, case when n % 10 = 0 then 'Cruz' || n else 'Doe' || n end, "
+                + "'student' || n || '@plan.dev', 'student' || n || '@plan.dev', 0 "
+                + "from generate_series(1, 20000) n").executeUpdate();
+        entityManager.createNativeQuery("analyze students").executeUpdate();
+
+        // when - action or the behaviour that we are going test
+        List<?> plan = entityManager.createNativeQuery("explain (analyze, format text) "
+                + "select id, first_name, last_name, email, version from students "
+                + "where (lower(first_name) like 'cru%' escape '!' or lower(last_name) like 'cru%' escape '!' "
+                + "or email_key like 'cru%' escape '!') and id > 0 "
+                + "order by id limit 21").getResultList();
+        String text = String.join("\n", plan.stream().map(String::valueOf).toList());
+
+        // then - verify the output
+        assertThat(text.contains("Index Scan using students_pkey") || text.contains("top-N heapsort"))
+                .as(() -> text).isTrue();
+        assertThat(text.contains("quicksort") || text.contains("external merge")).as(() -> text).isFalse();
+    }
+
 }
@@ -0,0 +1,239 @@
+package dev.angelcruzl.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.angelcruzl.benchmark.BenchmarkApplication;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator for /api/v1/students. Requests are issued at a fixed arrival rate and each
+ * latency is measured from the time the request was scheduled to start, not from when it was sent, so
+ * a stalled server shows up in the percentiles instead of silently lowering the request rate
+ * (coordinated omission).
+ *
+ * <p>Configured with system properties: {@code loadtest.url} (boots the application on embedded H2 when
+ * empty), {@code loadtest.students}, {@code loadtest.rate} (requests per second), {@code loadtest.warmup}
+ * and {@code loadtest.duration} (seconds) and {@code loadtest.mix}.
+ */
+public class StudentLoadTest {
+
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpClient client;
+
+    private final String baseUrl;
+
+    private final TrafficMix mix;
+
+    private final List<Long> seededIds = new ArrayList<>();
+
+    private final ConcurrentLinkedQueue<Long> createdIds = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Recorder latency = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+
+    private final Recorder serviceTime = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+
+    private final AtomicLong errors = new AtomicLong();
+
+    private final AtomicLong completed = new AtomicLong();
+
+    public StudentLoadTest(String baseUrl, TrafficMix mix, ExecutorService executor) {
+        this.baseUrl = baseUrl;
+        this.mix = mix;
+        this.client = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("loadtest.url", "");
+        int students = Integer.getInteger("loadtest.students", 10_000);
+        int rate = Integer.getInteger("loadtest.rate", 500);
+        int warmupSeconds = Integer.getInteger("loadtest.warmup", 10);
+        int durationSeconds = Integer.getInteger("loadtest.duration", 60);
+        TrafficMix mix = TrafficMix.parse(System.getProperty("loadtest.mix", "get=70,post=10,put=15,delete=5"));
+
+        ConfigurableApplicationContext context = null;
+        if (url.isEmpty()) {
+            context = BenchmarkApplication.start(WebApplicationType.SERVLET, "server.port=0");
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            url = "http://localhost:" + port + "/api/v1/students";
+        }
+
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            StudentLoadTest loadTest = new StudentLoadTest(url, mix, executor);
+            loadTest.seed(students);
+            loadTest.run(rate, Duration.ofSeconds(warmupSeconds));
+            loadTest.reset();
+            long elapsedNanos = loadTest.run(rate, Duration.ofSeconds(durationSeconds));
+            loadTest.report(elapsedNanos);
+        } finally {
+            executor.shutdownNow();
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    public void seed(int students) throws IOException, InterruptedException {
+        for (int from = 0; from < students; from += SEED_BATCH_SIZE) {
+            int count = Math.min(SEED_BATCH_SIZE, students - from);
+            List<Map<String, String>> batch = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                batch.add(newStudent());
+            }
+
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/batch"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(batch)))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Seeding failed with status " + response.statusCode() + ": " + response.body());
+            }
+            for (JsonNode student : objectMapper.readTree(response.body())) {
+                seededIds.add(student.get("id").asLong());
+            }
+        }
+    }
+
+    public long run(int rate, Duration duration) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long total = duration.toSeconds() * rate;
+        long start = System.nanoTime();
+        long before = completed.get() + errors.get();
+
+        for (long i = 0; i < total; i++) {
+            long intendedStart = start + i * intervalNanos;
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(intendedStart);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (completed.get() + errors.get() - before < total && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return System.nanoTime() - start;
+    }
+
+    public void reset() {
+        latency.reset();
+        serviceTime.reset();
+        errors.set(0);
+        completed.set(0);
+    }
+
+    public void report(long elapsedNanos) {
+        Histogram latencyHistogram = latency.getIntervalHistogram();
+        Histogram serviceTimeHistogram = serviceTime.getIntervalHistogram();
+        double seconds = elapsedNanos / 1e9;
+
+        System.out.printf("requests=%d errors=%d throughput=%.1f req/s%n",
+                completed.get(), errors.get(), completed.get() / seconds);
+        print("latency (corrected)", latencyHistogram);
+        print("service time", serviceTimeHistogram);
+    }
+
+    private void send(long intendedStart) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        TrafficMix.Operation operation = mix.pick(random.nextInt());
+        Long createdId = operation == TrafficMix.Operation.DELETE ? createdIds.poll() : null;
+        if (operation == TrafficMix.Operation.DELETE && createdId == null) {
+            operation = TrafficMix.Operation.GET;
+        }
+
+        HttpRequest request = switch (operation) {
+            case GET -> HttpRequest.newBuilder(URI.create(baseUrl + "/" + randomSeededId())).GET().build();
+            case POST -> jsonRequest(URI.create(baseUrl), "POST", newStudent());
+            case PUT -> jsonRequest(URI.create(baseUrl + "/" + randomSeededId()), "PUT", newStudent());
+            case DELETE -> HttpRequest.newBuilder(URI.create(baseUrl + "/" + createdId)).DELETE().build();
+        };
+
+        boolean create = operation == TrafficMix.Operation.POST;
+        long sentAt = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, failure) -> {
+            long end = System.nanoTime();
+            latency.recordValue(Math.min(end - intendedStart, HIGHEST_TRACKABLE_NANOS));
+            serviceTime.recordValue(Math.min(end - sentAt, HIGHEST_TRACKABLE_NANOS));
+            if (failure != null || response.statusCode() >= 400) {
+                errors.incrementAndGet();
+                return;
+            }
+
+            completed.incrementAndGet();
+            if (create) {
+                rememberCreatedId(response.body());
+            }
+        });
+    }
+
+    private void rememberCreatedId(String body) {
+        try {
+            createdIds.add(objectMapper.readTree(body).get("id").asLong());
+        } catch (IOException e) {
+            errors.incrementAndGet();
+        }
+    }
+
+    private HttpRequest jsonRequest(URI uri, String method, Map<String, String> student) {
+        try {
+            return HttpRequest.newBuilder(uri)
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(student)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long randomSeededId() {
+        return seededIds.get(ThreadLocalRandom.current().nextInt(seededIds.size()));
+    }
+
+    private Map<String, String> newStudent() {
+        long number = sequence.incrementAndGet();
+        return Map.of(
+                "firstName", "First" + number,
+                "lastName", "Last" + number,
+                "email", "load" + number + "-" + ProcessHandle.current().pid() + "@loadtest.dev");
+    }
+
+    private static void print(String name, Histogram histogram) {
+        System.out.printf("%s: p50=%.2f ms p99=%.2f ms p99.9=%.2f ms max=%.2f ms%n", name,
+                histogram.getValueAtPercentile(50) / 1e6,
+                histogram.getValueAtPercentile(99) / 1e6,
+                histogram.getValueAtPercentile(99.9) / 1e6,
+                histogram.getMaxValue() / 1e6);
+    }
+}
@@ -0,0 +1,65 @@
+package dev.angelcruzl.loadtest;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Weighted mix of request types, parsed from a spec such as {@code get=70,post=10,put=15,delete=5}.
+ */
+public class TrafficMix {
+
+    public enum Operation {
+        GET, POST, PUT, DELETE
+    }
+
+    private final Operation[] operations;
+
+    private final int[] cumulativeWeights;
+
+    private final int totalWeight;
+
+    private TrafficMix(Map<Operation, Integer> weights) {
+        this.operations = weights.keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += weights.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        this.totalWeight = total;
+    }
+
+    public static TrafficMix parse(String spec) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid traffic mix entry " + entry);
+            }
+
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Traffic mix weights must not be negative");
+            }
+            if (weight > 0) {
+                weights.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Traffic mix must contain at least one operation");
+        }
+
+        return new TrafficMix(weights);
+    }
+
+    public Operation pick(int random) {
+        int value = Math.floorMod(random, totalWeight);
+        for (int i = 0; i < operations.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+}
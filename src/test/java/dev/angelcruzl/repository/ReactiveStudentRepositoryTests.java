@@ -0,0 +1,96 @@
+package dev.angelcruzl.repository;
+
+import dev.angelcruzl.model.Student;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+// Flyway creates the schema and JPA fills it over JDBC; the reactive repository reads the same in-memory H2 database over R2DBC.
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive;DB_CLOSE_DELAY=-1",
+        "students.reactive.r2dbc.url=r2dbc:h2:mem:///reactive;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(ReactiveStudentRepository.class)
+public class ReactiveStudentRepositoryTests {
+
+    @Autowired
+    private ReactiveStudentRepository reactiveRepository;
+
+    @Autowired
+    private StudentRepository repository;
+
+    private List<Student> students;
+
+    @BeforeEach
+    public void setUp() {
+        students = repository.saveAll(List.of(
+                Student.builder().firstName("Angel").lastName("Cruz").email("me@angelcruzl.dev").build(),
+                Student.builder().firstName("John").lastName("Doe").email("john@doe").build(),
+                Student.builder().firstName("Jane").lastName("Doe").email("jane@doe").build()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        repository.deleteAll();
+    }
+
+    @DisplayName("JUnit test for reactive get student by id operation")
+    @Test
+    public void givenStudentId_whenFindById_thenEmitStudentView() {
+        // given - precondition or setup
+        Student student = students.get(0);
+
+        // when - action or the behaviour that we are going test
+        // then - verify the output
+        StepVerifier.create(reactiveRepository.findById(student.getId()))
+                .assertNext(view -> {
+                    assertThat(view.id()).isEqualTo(student.getId());
+                    assertThat(view.email()).isEqualTo(student.getEmail());
+                    assertThat(view.version()).isEqualTo(0L);
+                })
+                .verifyComplete();
+    }
+
+    @DisplayName("JUnit test for reactive get student by id operation with non-existing student id")
+    @Test
+    public void givenUnknownId_whenFindById_thenEmitNothing() {
+        // when - action or the behaviour that we are going test
+        // then - verify the output
+        StepVerifier.create(reactiveRepository.findById(-1L))
+                .verifyComplete();
+    }
+
+    @DisplayName("JUnit test for reactive page operation")
+    @Test
+    public void givenStudentsList_whenFindPage_thenEmitNextStudentsInIdOrder() {
+        // when - action or the behaviour that we are going test
+        // then - verify the output
+        StepVerifier.create(reactiveRepository.findPage(students.get(0).getId(), 1))
+                .assertNext(view -> assertThat(view.id()).isEqualTo(students.get(1).getId()))
+                .verifyComplete();
+    }
+
+    @DisplayName("JUnit test for reactive stream all operation")
+    @Test
+    public void givenStudentsList_whenStreamAll_thenEmitEveryStudent() {
+        // when - action or the behaviour that we are going test
+        // then - verify the output
+        StepVerifier.create(reactiveRepository.streamAll())
+                .expectNextCount(3)
+                .verifyComplete();
+    }
+}
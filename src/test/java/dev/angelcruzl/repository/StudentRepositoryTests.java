@@ -1,15 +1,23 @@
 package dev.angelcruzl.repository;
 
+import dev.angelcruzl.dto.StudentView;
 import dev.angelcruzl.model.Student;
+import dev.angelcruzl.sql.SqlBudget;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DataJpaTest
 public class StudentRepositoryTests {
@@ -61,6 +69,79 @@ public class StudentRepositoryTests {
         assertThat(students.size()).isEqualTo(2);
     }
 
+    @DisplayName("JUnit test for keyset page operation")
+    @Test
+    public void givenStudentsList_whenFindByIdGreaterThan_thenReturnNextStudents() {
+        // given - precondition or setup
+        Student student2 = Student.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("john@doe")
+                .build();
+        Student student3 = Student.builder()
+                .firstName("Jane")
+                .lastName("Doe")
+                .email("jane@doe")
+                .build();
+
+        repository.save(student);
+        repository.save(student2);
+        repository.save(student3);
+
+        // when - action or the behaviour that we are going test
+        List<StudentView> students = repository.findByIdGreaterThanOrderByIdAsc(student.getId(), Limit.of(1));
+
+        // then - verify the output
+        assertThat(students.size()).isEqualTo(1);
+        assertThat(students.get(0).id()).isEqualTo(student2.getId());
+        assertThat(students.get(0).email()).isEqualTo("john@doe");
+    }
+
+    @DisplayName("JUnit test for search operation")
+    @Test
+    public void givenStudentsList_whenSearch_thenReturnPrefixMatchesFirst() {
+        // given - precondition or setup
+        Student student2 = Student.builder()
+                .firstName("Ricardo")
+                .lastName("Acruz")
+                .email("ricardo@acruz.dev")
+                .build();
+        Student student3 = Student.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("john@doe")
+                .build();
+
+        repository.save(student2);
+        repository.save(student);
+        repository.save(student3);
+
+        // when - action or the behaviour that we are going test
+        List<StudentView> prefixMatches = repository.searchByPrefix("cru%", 0L, Limit.of(10));
+        List<StudentView> substringMatches = repository.searchBySubstring("%cru%", "cru%", 0L, Limit.of(10));
+
+        // then - verify the output
+        assertThat(prefixMatches.size()).isEqualTo(1);
+        assertThat(prefixMatches.get(0).id()).isEqualTo(student.getId());
+        assertThat(substringMatches.size()).isEqualTo(1);
+        assertThat(substringMatches.get(0).id()).isEqualTo(student2.getId());
+    }
+
+    @DisplayName("JUnit test for find fields operation")
+    @Test
+    public void givenStudentObject_whenFindFields_thenReturnOnlySelectedFields() {
+        // given - precondition or setup
+        repository.save(student);
+
+        // when - action or the behaviour that we are going test
+        List<Map<String, Object>> students = repository.findFields(List.of("id", "email"), 0L, 10);
+
+        // then - verify the output
+        assertThat(students.size()).isEqualTo(1);
+        assertThat(students.get(0).keySet()).isEqualTo(Set.of("id", "email"));
+        assertThat(students.get(0).get("email")).isEqualTo(student.getEmail());
+    }
+
     @DisplayName("JUnit test for get student by id operation")
     @Test
     public void givenStudentId_whenFindById_thenReturnStudentObject() {
@@ -78,6 +159,17 @@ public class StudentRepositoryTests {
         assertThat(studentFound.getEmail()).isEqualTo(student.getEmail());
     }
 
+    @DisplayName("JUnit test for get student by id operation statement budget")
+    @Test
+    @SqlBudget(1)
+    public void givenUnknownId_whenFindById_thenRunOneStatement() {
+        // when - action or the behaviour that we are going test
+        Student studentFound = repository.findById(99L).orElse(null);
+
+        // then - verify the output
+        assertThat(studentFound).isNull();
+    }
+
     @DisplayName("JUnit test for get student by email operation")
     @Test
     public void givenStudentObject_whenFindByEmail_thenReturnStudentObject() {
@@ -95,6 +187,37 @@ public class StudentRepositoryTests {
         assertThat(studentFound.getEmail()).isEqualTo(student.getEmail());
     }
 
+    @DisplayName("JUnit test for find existing email keys operation")
+    @Test
+    public void givenStudentObject_whenFindExistingEmailKeys_thenReturnOnlyStoredEmailKeys() {
+        // given - precondition or setup
+        student.setEmail("Me@AngelCruzL.dev");
+        repository.save(student);
+
+        // when - action or the behaviour that we are going test
+        List<String> emailKeys = repository.findExistingEmailKeys(List.of("me@angelcruzl.dev", "john@doe"));
+
+        // then - verify the output
+        assertThat(emailKeys.size()).isEqualTo(1);
+        assertThat(emailKeys.get(0)).isEqualTo("me@angelcruzl.dev");
+    }
+
+    @DisplayName("JUnit test for save student operation with an email differing only in case")
+    @Test
+    public void givenStudentWithSameEmailInOtherCase_whenSave_thenThrowDataIntegrityViolation() {
+        // given - precondition or setup
+        repository.saveAndFlush(student);
+        Student student2 = Student.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("ME@angelcruzl.dev")
+                .build();
+
+        // when - action or the behaviour that we are going test
+        // then - verify the output
+        assertThrows(DataIntegrityViolationException.class, () -> repository.saveAndFlush(student2));
+    }
+
     @DisplayName("JUnit test for update student operation")
     @Test
     public void givenStudentObject_whenUpdate_thenReturnUpdatedStudent() {
@@ -116,6 +239,86 @@ public class StudentRepositoryTests {
         assertThat(updatedStudent.getEmail()).isEqualTo("john@doe");
     }
 
+    @DisplayName("JUnit test for update by id operation")
+    @Test
+    public void givenStudentObject_whenUpdateById_thenReturnOneUpdatedRow() {
+        // given - precondition or setup
+        repository.save(student);
+
+        // when - action or the behaviour that we are going test
+        int updatedRows = repository.updateById(student.getId(), "John", "Doe", "John@Doe", "john@doe");
+
+        // then - verify the output
+        Student updatedStudent = repository.findById(student.getId()).get();
+        assertThat(updatedRows).isEqualTo(1);
+        assertThat(updatedStudent.getFirstName()).isEqualTo("John");
+        assertThat(updatedStudent.getEmail()).isEqualTo("John@Doe");
+        assertThat(updatedStudent.getEmailKey()).isEqualTo("john@doe");
+    }
+
+    @DisplayName("JUnit test for update by id returning version operation")
+    @Test
+    public void givenStudentObject_whenUpdateByIdReturningVersion_thenReturnNewVersion() {
+        // given - precondition or setup
+        repository.saveAndFlush(student);
+
+        // when - action or the behaviour that we are going test
+        Optional<Long> version = repository.updateByIdReturningVersion(student.getId(), "John", "Doe", "john@doe",
+                "john@doe");
+        Optional<Long> missing = repository.updateByIdReturningVersion(-1L, "John", "Doe", "john@doe", "john@doe");
+
+        // then - verify the output
+        assertThat(version).isEqualTo(Optional.of(1L));
+        assertThat(missing).isEqualTo(Optional.empty());
+        assertThat(repository.findById(student.getId()).get().getFirstName()).isEqualTo("John");
+    }
+
+    @DisplayName("JUnit test for update by id operation with non-existing student id")
+    @Test
+    public void givenUnknownId_whenUpdateById_thenReturnZeroUpdatedRows() {
+        // when - action or the behaviour that we are going test
+        int updatedRows = repository.updateById(99L, "John", "Doe", "john@doe", "john@doe");
+
+        // then - verify the output
+        assertThat(updatedRows).isEqualTo(0);
+    }
+
+    @DisplayName("JUnit test for update by id and version operation")
+    @Test
+    public void givenStudentVersion_whenUpdateByIdAndVersion_thenOnlyCurrentVersionIsUpdated() {
+        // given - precondition or setup
+        repository.saveAndFlush(student);
+        Long version = student.getVersion();
+
+        // when - action or the behaviour that we are going test
+        int updatedRows = repository.updateByIdAndVersion(student.getId(), version, "John", "Doe", "john@doe", "john@doe");
+        int staleRows = repository.updateByIdAndVersion(student.getId(), version, "Jane", "Doe", "jane@doe", "jane@doe");
+
+        // then - verify the output
+        Student updatedStudent = repository.findById(student.getId()).get();
+        assertThat(updatedRows).isEqualTo(1);
+        assertThat(staleRows).isEqualTo(0);
+        assertThat(updatedStudent.getFirstName()).isEqualTo("John");
+        assertThat(updatedStudent.getVersion()).isEqualTo(version + 1);
+    }
+
+    @DisplayName("JUnit test for update fields operation")
+    @Test
+    public void givenStudentObject_whenUpdateFields_thenOnlyGivenFieldsChange() {
+        // given - precondition or setup
+        repository.saveAndFlush(student);
+
+        // when - action or the behaviour that we are going test
+        int updatedRows = repository.updateFields(student.getId(), student.getVersion(), Map.of("lastName", "Lara"));
+
+        // then - verify the output
+        Student updatedStudent = repository.findById(student.getId()).get();
+        assertThat(updatedRows).isEqualTo(1);
+        assertThat(updatedStudent.getFirstName()).isEqualTo("Angel");
+        assertThat(updatedStudent.getLastName()).isEqualTo("Lara");
+        assertThat(updatedStudent.getVersion()).isEqualTo(student.getVersion() + 1);
+    }
+
     @DisplayName("JUnit test for delete student operation")
     @Test
     public void givenStudentId_whenDelete_thenStudentDeleted() {
@@ -129,4 +332,49 @@ public class StudentRepositoryTests {
         assertThat(repository.findById(student.getId())).isEmpty();
     }
 
+    @DisplayName("JUnit test for delete student by id operation")
+    @Test
+    public void givenStudentId_whenDeleteStudentById_thenReturnOneDeletedRow() {
+        // given - precondition or setup
+        repository.save(student);
+
+        // when - action or the behaviour that we are going test
+        int deletedRows = repository.deleteStudentById(student.getId());
+
+        // then - verify the output
+        assertThat(deletedRows).isEqualTo(1);
+        assertThat(repository.findById(student.getId())).isEmpty();
+    }
+
+    @DisplayName("JUnit test for delete student by id operation statement budget")
+    @Test
+    @SqlBudget(1)
+    public void givenUnknownId_whenDeleteStudentById_thenRunOneStatement() {
+        // when - action or the behaviour that we are going test
+        int deletedRows = repository.deleteStudentById(99L);
+
+        // then - verify the output
+        assertThat(deletedRows).isEqualTo(0);
+    }
+
+    @DisplayName("JUnit test for delete students by ids operation")
+    @Test
+    public void givenStudentIds_whenDeleteStudentsByIdIn_thenReturnDeletedRows() {
+        // given - precondition or setup
+        Student student2 = Student.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("john@doe")
+                .build();
+        repository.save(student);
+        repository.save(student2);
+
+        // when - action or the behaviour that we are going test
+        int deletedRows = repository.deleteStudentsByIdIn(List.of(student.getId(), student2.getId(), 99L));
+
+        // then - verify the output
+        assertThat(deletedRows).isEqualTo(2);
+        assertThat(repository.count()).isEqualTo(0);
+    }
+
 }
@@ -0,0 +1,124 @@
+package dev.angelcruzl.repository;
+
+import dev.angelcruzl.config.SecondLevelCacheConfig;
+import dev.angelcruzl.model.Student;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+// Every repository call commits on its own, the way the service uses it, so cache puts and evictions actually happen.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(SecondLevelCacheConfig.class)
+public class StudentSecondLevelCacheTests {
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Student student;
+
+    @BeforeEach
+    public void setUp() {
+        student = repository.save(Student.builder()
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .build());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        repository.deleteAllInBatch();
+    }
+
+    @DisplayName("JUnit test for caching a student in the second-level cache")
+    @Test
+    public void givenSavedStudent_whenFindById_thenStudentIsCached() {
+        // when - action or the behaviour that we are going test
+        repository.findById(student.getId());
+
+        // then - verify the output
+        assertThat(entityManagerFactory.getCache().contains(Student.class, student.getId())).isTrue();
+    }
+
+    @DisplayName("JUnit test for evicting a student from the second-level cache on update by id")
+    @Test
+    public void givenCachedStudent_whenUpdateById_thenEvictStudent() {
+        // given - precondition or setup
+        repository.findById(student.getId());
+
+        // when - action or the behaviour that we are going test
+        repository.updateById(student.getId(), "Luis", "Lara", "luis@lara.dev", "luis@lara.dev");
+
+        // then - verify the output
+        assertThat(entityManagerFactory.getCache().contains(Student.class, student.getId())).isFalse();
+        assertThat(repository.findById(student.getId()).get().getFirstName()).isEqualTo("Luis");
+    }
+
+    @DisplayName("JUnit test for keeping other cached students on update by id")
+    @Test
+    public void givenCachedStudents_whenUpdateById_thenOtherStudentsStayCached() {
+        // given - precondition or setup
+        Student other = repository.save(Student.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("john@doe")
+                .build());
+        repository.findById(student.getId());
+        repository.findById(other.getId());
+
+        // when - action or the behaviour that we are going test
+        repository.updateById(student.getId(), "Luis", "Lara", "luis@lara.dev", "luis@lara.dev");
+        repository.updateFields(student.getId(), null, Map.of("lastName", "Cruz"));
+
+        // then - verify the output
+        assertThat(entityManagerFactory.getCache().contains(Student.class, student.getId())).isFalse();
+        assertThat(entityManagerFactory.getCache().contains(Student.class, other.getId())).isTrue();
+    }
+
+    @DisplayName("JUnit test for evicting a student from the second-level cache on delete by id")
+    @Test
+    public void givenCachedStudent_whenDeleteStudentById_thenEvictStudent() {
+        // given - precondition or setup
+        repository.findById(student.getId());
+
+        // when - action or the behaviour that we are going test
+        repository.deleteStudentById(student.getId());
+
+        // then - verify the output
+        assertThat(entityManagerFactory.getCache().contains(Student.class, student.getId())).isFalse();
+        assertThat(repository.findById(student.getId()).isPresent()).isFalse();
+    }
+
+    @DisplayName("JUnit test for caching and invalidating get student by email results")
+    @Test
+    public void givenCachedEmailQuery_whenUpdateById_thenDoNotReturnStaleStudent() {
+        // given - precondition or setup
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        repository.findByEmail(student.getEmail());
+
+        // when - action or the behaviour that we are going test
+        repository.updateById(student.getId(), "Luis", "Lara", "luis@lara.dev", "luis@lara.dev");
+
+        // then - verify the output
+        assertThat(statistics.getQueryCachePutCount()).isEqualTo(1);
+        assertThat(repository.findByEmail(student.getEmail()).isPresent()).isFalse();
+    }
+}
@@ -0,0 +1,74 @@
+package dev.angelcruzl.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class PostingListTests {
+
+    private PostingList list;
+
+    @BeforeEach
+    public void setUp() {
+        list = new PostingList();
+        for (long id = 1; id <= 100; id++) {
+            list.add(id);
+        }
+    }
+
+    @DisplayName("JUnit test for removing and adding back an id")
+    @Test
+    public void givenRemovedId_whenAdd_thenIdIsLiveInSameSlot() {
+        // given - precondition or setup
+        list.remove(50L);
+
+        // when - action or the behaviour that we are going test
+        boolean removed = !list.contains(50L);
+        list.add(50L);
+
+        // then - verify the output
+        assertThat(removed).isTrue();
+        assertThat(list.contains(50L)).isTrue();
+        assertThat(list.size()).isEqualTo(100);
+        assertThat(list.slots()).isEqualTo(100);
+    }
+
+    @DisplayName("JUnit test for compacting removed ids")
+    @Test
+    public void givenQuarterOfIdsRemoved_whenRemove_thenCompactSlots() {
+        // when - action or the behaviour that we are going test
+        for (long id = 1; id <= 24; id++) {
+            list.remove(id);
+        }
+        int slotsBeforeCompaction = list.slots();
+        list.remove(25L);
+
+        // then - verify the output
+        assertThat(slotsBeforeCompaction).isEqualTo(100);
+        assertThat(list.slots()).isEqualTo(75);
+        assertThat(list.size()).isEqualTo(75);
+        assertThat(list.get(0)).isEqualTo(26L);
+    }
+
+    @DisplayName("JUnit test for adding an id out of order")
+    @Test
+    public void givenRemovedIds_whenAddOutOfOrder_thenKeepIdsSorted() {
+        // given - precondition or setup
+        list.remove(10L);
+        list.remove(20L);
+        list.add(250L);
+
+        // when - action or the behaviour that we are going test
+        list.remove(250L);
+        list.add(0L);
+
+        // then - verify the output
+        assertThat(list.get(0)).isEqualTo(0L);
+        assertThat(list.contains(10L)).isFalse();
+        assertThat(list.contains(20L)).isFalse();
+        assertThat(list.size()).isEqualTo(99);
+        assertThat(list.slots()).isEqualTo(99);
+    }
+}
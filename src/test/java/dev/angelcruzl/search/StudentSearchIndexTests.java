@@ -0,0 +1,144 @@
+package dev.angelcruzl.search;
+
+import dev.angelcruzl.dto.StudentView;
+import dev.angelcruzl.model.Student;
+import dev.angelcruzl.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class StudentSearchIndexTests {
+
+    private StudentRepository repository;
+
+    private StudentSearchIndex index;
+
+    private Student student;
+
+    @BeforeEach
+    public void setUp() {
+        repository = mock(StudentRepository.class);
+        index = new StudentSearchIndex(repository, true, 2, 2);
+        student = Student.builder()
+                .id(1L)
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .version(0L)
+                .build();
+    }
+
+    @DisplayName("JUnit test for index load operation")
+    @Test
+    public void givenStudentsInRepository_whenLoad_thenIndexIsReady() {
+        // given - precondition or setup
+        given(repository.findMaxId()).willReturn(3L);
+        given(repository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(0L, 2L)).willReturn(List.of(
+                new StudentView(1L, "Angel", "Cruz", "me@angelcruzl.dev", 0L),
+                new StudentView(2L, "John", "Doe", "john@doe", 0L)));
+        given(repository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(2L, 3L)).willReturn(List.of(
+                new StudentView(3L, "Jane", "Doe", "jane@doe", 0L)));
+
+        // when - action or the behaviour that we are going test
+        index.load();
+
+        // then - verify the output
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search("doe", 10).size()).isEqualTo(2);
+    }
+
+    @DisplayName("JUnit test for search operation with a short prefix")
+    @Test
+    public void givenShortQuery_whenSearch_thenMatchFieldPrefixes() {
+        // given - precondition or setup
+        index.put(student);
+        index.put(Student.builder().id(2L).firstName("Juan").lastName("Ramos").email("juan@ramos.dev").build());
+
+        // when - action or the behaviour that we are going test
+        List<StudentView> students = index.search("an", 10);
+
+        // then - verify the output
+        assertThat(students.size()).isEqualTo(1);
+        assertThat(students.get(0).id()).isEqualTo(student.getId());
+    }
+
+    @DisplayName("JUnit test for search operation ranking prefix matches first")
+    @Test
+    public void givenSubstringQuery_whenSearch_thenRankPrefixMatchesFirst() {
+        // given - precondition or setup
+        index.put(Student.builder().id(2L).firstName("Ricardo").lastName("Acruz").email("ricardo@acruz.dev").build());
+        index.put(student);
+
+        // when - action or the behaviour that we are going test
+        List<StudentView> students = index.search("CRU", 10);
+
+        // then - verify the output
+        assertThat(students.size()).isEqualTo(2);
+        assertThat(students.get(0).id()).isEqualTo(student.getId());
+        assertThat(students.get(1).id()).isEqualTo(2L);
+    }
+
+    @DisplayName("JUnit test for search operation after update and delete")
+    @Test
+    public void givenUpdatedAndDeletedStudents_whenSearch_thenReturnCurrentState() {
+        // given - precondition or setup
+        index.put(student);
+        index.put(Student.builder().id(2L).firstName("John").lastName("Doe").email("john@doe").build());
+
+        // when - action or the behaviour that we are going test
+        student.setLastName("Lara");
+        index.put(student);
+        index.remove(2L);
+
+        // then - verify the output
+        assertThat(index.search("cruz", 10).size()).isEqualTo(0);
+        assertThat(index.search("lara", 10).size()).isEqualTo(1);
+        assertThat(index.search("doe", 10).size()).isEqualTo(0);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @DisplayName("JUnit test for search operation limit")
+    @Test
+    public void givenMoreMatchesThanLimit_whenSearch_thenReturnOnlyLimit() {
+        // given - precondition or setup
+        for (long id = 1; id <= 20; id++) {
+            index.put(Student.builder().id(id).firstName("Ana").lastName("Doe " + id).email(id + "@doe").build());
+        }
+
+        // when - action or the behaviour that we are going test
+        List<StudentView> students = index.search("ana", 5);
+
+        // then - verify the output
+        assertThat(students.size()).isEqualTo(5);
+    }
+
+    @DisplayName("JUnit test for search operation after many email changes and deletes")
+    @Test
+    public void givenManyEmailChangesAndDeletes_whenSearch_thenReturnCurrentState() {
+        // given - precondition or setup
+        for (long id = 1; id <= 100; id++) {
+            index.put(Student.builder().id(id).firstName("Ana").lastName("Doe").email("ana" + id + "@mail.com").build());
+        }
+
+        // when - action or the behaviour that we are going test
+        for (long id = 1; id <= 100; id++) {
+            index.put(Student.builder().id(id).firstName("Ana").lastName("Doe").email("ana" + id + "@school.com").build());
+        }
+        for (long id = 1; id <= 60; id++) {
+            index.remove(id);
+        }
+
+        // then - verify the output
+        assertThat(index.search("mail.com", 100).size()).isEqualTo(0);
+        assertThat(index.search("school.com", 100).size()).isEqualTo(40);
+        assertThat(index.search("ana", 100).get(0).id()).isEqualTo(61L);
+        assertThat(index.size()).isEqualTo(40);
+    }
+}
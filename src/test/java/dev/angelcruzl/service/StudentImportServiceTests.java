@@ -0,0 +1,122 @@
+package dev.angelcruzl.service;
+
+import dev.angelcruzl.dto.ImportReport;
+import dev.angelcruzl.model.Student;
+import dev.angelcruzl.repository.StudentRepository;
+import dev.angelcruzl.search.StudentSearchIndex;
+import dev.angelcruzl.service.impl.StudentImportServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.willReturn;
+
+@DataJpaTest
+@Import(StudentImportServiceImpl.class)
+public class StudentImportServiceTests {
+
+    @Autowired
+    private StudentImportService importService;
+
+    @SpyBean
+    private StudentRepository repository;
+
+    @MockBean
+    private StudentSearchIndex searchIndex;
+
+    @DisplayName("JUnit test for import students operation")
+    @Test
+    public void givenCsv_whenImportStudents_thenImportValidRows() {
+        // given - precondition or setup
+        String csv = """
+                first_name,last_name,email
+                Angel,Cruz,me@angelcruzl.dev
+                "Doe, Jr.",John,john@doe
+                """;
+
+        // when - action or the behaviour that we are going test
+        ImportReport report = importService.importStudents(new StringReader(csv));
+
+        // then - verify the output
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getRejected()).isEqualTo(0);
+        assertThat(repository.findByEmail("john@doe").get().getFirstName()).isEqualTo("Doe, Jr.");
+    }
+
+    @DisplayName("JUnit test for import students operation with invalid rows")
+    @Test
+    public void givenCsvWithInvalidRows_whenImportStudents_thenReportRejects() {
+        // given - precondition or setup
+        repository.save(Student.builder()
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .build());
+        String csv = """
+                first_name,last_name,email
+                Angel,Cruz,me@angelcruzl.dev
+                John,Doe,john@doe
+                Jane,,jane@doe
+                Johnny,Doe,john@doe
+                """;
+
+        // when - action or the behaviour that we are going test
+        ImportReport report = importService.importStudents(new StringReader(csv));
+
+        // then - verify the output
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getRejected()).isEqualTo(3);
+        assertThat(report.getRejects().get(0).getReason()).isEqualTo("missing last_name");
+        assertThat(report.getRejects().get(0).getLine()).isEqualTo(4);
+        assertThat(report.getRejects().get(1).getLine()).isEqualTo(5);
+        assertThat(report.getRejects().get(2).getLine()).isEqualTo(2);
+        assertThat(repository.count()).isEqualTo(2);
+    }
+
+    // Runs outside the test transaction so the failed chunk rolls back on its own, as it does in production
+    @DisplayName("JUnit test for import students operation with a row conflicting in the database")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenChunkWithConflictingRow_whenImportStudents_thenRejectOnlyConflictingRow() {
+        // given - precondition or setup
+        repository.save(Student.builder()
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .build());
+        // the pre-check misses the email, as it would when another import inserts it concurrently
+        willReturn(List.of()).given(repository).findExistingEmailKeys(anyCollection());
+        String csv = """
+                first_name,last_name,email
+                John,Doe,john@doe
+                Jane,Doe,jane@doe
+                Angel,Cruz,me@angelcruzl.dev
+                Johnny,Doe,johnny@doe
+                """;
+
+        try {
+            // when - action or the behaviour that we are going test
+            ImportReport report = importService.importStudents(new StringReader(csv));
+
+            // then - verify the output
+            assertThat(report.getImported()).isEqualTo(3);
+            assertThat(report.getRejected()).isEqualTo(1);
+            assertThat(report.getRejects().get(0).getLine()).isEqualTo(4);
+            assertThat(report.getRejects().get(0).getReason()).startsWith("rejected by the database: ");
+            assertThat(repository.count()).isEqualTo(4);
+        } finally {
+            repository.deleteAll();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package dev.angelcruzl.service;
+
+import dev.angelcruzl.dto.IngestStatus;
+import dev.angelcruzl.model.Student;
+import dev.angelcruzl.repository.StudentRepository;
+import dev.angelcruzl.search.StudentSearchIndex;
+import dev.angelcruzl.service.impl.StudentIngestServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willThrow;
+
+@DataJpaTest(properties = {"students.ingest.batch-size=10", "students.ingest.flush-interval=20ms",
+        "students.ingest.retry-backoff=10ms"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(StudentIngestServiceImpl.class)
+public class StudentIngestServiceTests {
+
+    @Autowired
+    private StudentIngestService ingestService;
+
+    @Autowired
+    private StudentRepository repository;
+
+    @MockBean
+    private StudentSearchIndex searchIndex;
+
+    @SpyBean
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    public void tearDown() {
+        repository.deleteAll();
+    }
+
+    @DisplayName("JUnit test for asynchronous create operation")
+    @Test
+    public void givenStudents_whenSubmit_thenCreateThemInTheBackground() throws InterruptedException {
+        // given - precondition or setup
+        repository.save(Student.builder().firstName("Angel").lastName("Cruz").email("me@angelcruzl.dev").build());
+
+        // when - action or the behaviour that we are going test
+        IngestStatus created = ingestService.submit(
+                Student.builder().firstName("John").lastName("Doe").email("john@doe").build());
+        IngestStatus repeated = ingestService.submit(
+                Student.builder().firstName("Johnny").lastName("Doe").email("JOHN@doe").build());
+        IngestStatus existing = ingestService.submit(
+                Student.builder().firstName("Angel").lastName("Lara").email("me@angelcruzl.dev").build());
+
+        // then - verify the output
+        assertThat(created.getState()).isEqualTo(IngestStatus.State.PENDING);
+        assertThat(awaitResult(created.getTicketId()).getState()).isEqualTo(IngestStatus.State.CREATED);
+        assertThat(awaitResult(repeated.getTicketId()).getState()).isEqualTo(IngestStatus.State.REJECTED);
+        assertThat(awaitResult(existing.getTicketId()).getState()).isEqualTo(IngestStatus.State.REJECTED);
+        assertThat(repository.count()).isEqualTo(2);
+    }
+
+    @DisplayName("JUnit test for asynchronous create operation when the database is briefly unavailable")
+    @Test
+    public void givenUnavailableConnection_whenSubmit_thenRetryAndCreateStudent() throws InterruptedException {
+        // given - precondition or setup
+        willThrow(new CannotCreateTransactionException("Connection is not available"))
+                .willCallRealMethod()
+                .given(transactionTemplate).execute(any());
+
+        // when - action or the behaviour that we are going test
+        IngestStatus submitted = ingestService.submit(
+                Student.builder().firstName("John").lastName("Doe").email("john@doe").build());
+
+        // then - verify the output
+        IngestStatus result = awaitResult(submitted.getTicketId());
+        assertThat(result.getState()).isEqualTo(IngestStatus.State.CREATED);
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    private IngestStatus awaitResult(String ticketId) throws InterruptedException {
+        for (int attempt = 0; attempt < 250; attempt++) {
+            IngestStatus status = ingestService.getStatus(ticketId).orElseThrow();
+            if (status.getState() != IngestStatus.State.PENDING) {
+                return status;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("Ticket " + ticketId + " is still pending");
+    }
+}
@@ -1,19 +1,37 @@
 package dev.angelcruzl.service;
 
+import dev.angelcruzl.cache.StudentCache;
+import dev.angelcruzl.dto.CursorPage;
+import dev.angelcruzl.dto.StudentView;
+import dev.angelcruzl.exception.DuplicateEmailException;
+import dev.angelcruzl.exception.ResourceConflictException;
 import dev.angelcruzl.exception.ResourceNotFoundException;
 import dev.angelcruzl.model.Student;
 import dev.angelcruzl.repository.StudentRepository;
+import dev.angelcruzl.search.StudentSearchIndex;
 import dev.angelcruzl.service.impl.StudentServiceImpl;
+import dev.angelcruzl.util.Cursors;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -27,6 +45,15 @@ public class StudentServiceTests {
     @Mock
     private StudentRepository repository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private StudentSearchIndex searchIndex;
+
+    @Spy
+    private StudentCache cache = new StudentCache(100, Duration.ofMinutes(5), Duration.ofSeconds(5));
+
     @InjectMocks
     private StudentServiceImpl service;
 
@@ -46,8 +73,7 @@ public class StudentServiceTests {
     @Test
     public void givenStudentObject_whenSave_thenReturnSavedStudent() {
         // given - precondition or setup
-        given(repository.findByEmail(student.getEmail())).willReturn(Optional.empty());
-        given(repository.save(student)).willReturn(student);
+        given(repository.saveAndFlush(student)).willReturn(student);
 
         // when - action or the behaviour that we are going test
         Student savedStudent = service.createStudent(student);
@@ -60,29 +86,90 @@ public class StudentServiceTests {
     @Test
     public void givenStudentObject_whenSaveWithExistingEmail_thenThrowException() {
         // given - precondition or setup
-        given(repository.findByEmail(student.getEmail())).willReturn(Optional.of(student));
+        given(repository.saveAndFlush(student)).willThrow(new DataIntegrityViolationException("could not execute statement",
+                new SQLException("duplicate key value violates unique constraint \"uk_students_email_key\"")));
 
         // when - action or the behaviour that we are going test
         assertThrows(ResourceNotFoundException.class, () -> service.createStudent(student));
 
         // then - verify the output
-        verify(repository, never()).save(any(Student.class));
+        verify(repository, never()).findByEmail(any());
     }
 
-    @DisplayName("JUnit test for get all students operation")
+    @DisplayName("JUnit test for save student operation with another integrity violation")
     @Test
-    public void givenStudentsList_whenFindAll_thenStudentsList() {
+    public void givenStudentObject_whenSaveViolatesOtherConstraint_thenRethrowException() {
+        // given - precondition or setup
+        given(repository.saveAndFlush(student)).willThrow(new DataIntegrityViolationException("could not execute statement",
+                new SQLException("null value in column \"first_name\" violates not-null constraint")));
+
+        // when - action or the behaviour that we are going test
+        assertThrows(DataIntegrityViolationException.class, () -> service.createStudent(student));
+    }
+
+    @DisplayName("JUnit test for save students batch operation")
+    @Test
+    public void givenStudentsList_whenSaveBatch_thenReturnSavedStudents() {
         // given - precondition or setup
         Student student2 = Student.builder()
                 .firstName("John")
                 .lastName("Doe")
                 .email("john@doe")
                 .build();
+        List<Student> students = List.of(student, student2);
+
+        given(repository.findExistingEmailKeys(any())).willReturn(List.of());
+        given(repository.saveAll(students)).willReturn(students);
+
+        // when - action or the behaviour that we are going test
+        List<Student> savedStudents = service.createStudents(students);
+
+        // then - verify the output
+        assertThat(savedStudents.size()).isEqualTo(2);
+        verify(repository, times(1)).findExistingEmailKeys(any());
+    }
+
+    @DisplayName("JUnit test for save students batch operation with existing email")
+    @Test
+    public void givenStudentsListWithExistingEmail_whenSaveBatch_thenThrowException() {
+        // given - precondition or setup
+        given(repository.findExistingEmailKeys(any())).willReturn(List.of(Student.emailKeyOf(student.getEmail())));
+
+        // when - action or the behaviour that we are going test
+        assertThrows(ResourceNotFoundException.class, () -> service.createStudents(List.of(student)));
+
+        // then - verify the output
+        verify(repository, never()).saveAll(any());
+    }
+
+    @DisplayName("JUnit test for save students batch operation with repeated email")
+    @Test
+    public void givenStudentsListWithRepeatedEmail_whenSaveBatch_thenThrowException() {
+        // given - precondition or setup
+        Student student2 = Student.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email(student.getEmail())
+                .build();
 
-        given(repository.findAll()).willReturn(java.util.List.of(student, student2));
+        // when - action or the behaviour that we are going test
+        assertThrows(ResourceNotFoundException.class, () -> service.createStudents(List.of(student, student2)));
+
+        // then - verify the output
+        verify(repository, never()).findExistingEmailKeys(any());
+        verify(repository, never()).saveAll(any());
+    }
+
+    @DisplayName("JUnit test for get all students operation")
+    @Test
+    public void givenStudentsList_whenFindAll_thenStudentsList() {
+        // given - precondition or setup
+        given(repository.findAllByOrderByIdAsc()).willReturn(java.util.List.of(
+                new StudentView(1L, "Angel", "Cruz", "me@angelcruzl.dev", 0L),
+                new StudentView(2L, "John", "Doe", "john@doe", 0L)));
 
         // when - action or the behaviour that we are going test
-        java.util.List<Student> students = service.getAllStudents();
+        java.util.List<StudentView> students = service.getAllStudents();
 
         // then - verify the output
         assertThat(students).isNotNull();
@@ -93,17 +180,174 @@ public class StudentServiceTests {
     @Test
     public void givenNoStudents_whenFindAll_thenReturnEmptyList() {
         // given - precondition or setup
-        given(repository.findAll()).willReturn(java.util.List.of());
-        given(repository.findAll()).willReturn(Collections.emptyList());
+        given(repository.findAllByOrderByIdAsc()).willReturn(java.util.List.of());
+        given(repository.findAllByOrderByIdAsc()).willReturn(Collections.emptyList());
 
         // when - action or the behaviour that we are going test
-        java.util.List<Student> students = service.getAllStudents();
+        java.util.List<StudentView> students = service.getAllStudents();
 
         // then - verify the output
         assertThat(students).isNotNull();
         assertThat(students.size()).isEqualTo(0);
     }
 
+    @DisplayName("JUnit test for get students page operation")
+    @Test
+    public void givenMoreStudentsThanLimit_whenGetStudentsPage_thenReturnPageWithNextCursor() {
+        // given - precondition or setup
+        given(repository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2))).willReturn(java.util.List.of(
+                new StudentView(1L, "Angel", "Cruz", "me@angelcruzl.dev", 0L),
+                new StudentView(2L, "John", "Doe", "john@doe", 0L)));
+
+        // when - action or the behaviour that we are going test
+        CursorPage<StudentView> page = service.getStudentsPage(null, 1);
+
+        // then - verify the output
+        assertThat(page.getContent().size()).isEqualTo(1);
+        assertThat(page.getNextCursor()).isEqualTo(Cursors.encode(student.getId()));
+    }
+
+    @DisplayName("JUnit test for get students page operation on the last page")
+    @Test
+    public void givenCursorOnLastPage_whenGetStudentsPage_thenReturnPageWithoutNextCursor() {
+        // given - precondition or setup
+        given(repository.findByIdGreaterThanOrderByIdAsc(student.getId(), Limit.of(11)))
+                .willReturn(java.util.List.of());
+
+        // when - action or the behaviour that we are going test
+        CursorPage<StudentView> page = service.getStudentsPage(Cursors.encode(student.getId()), 10);
+
+        // then - verify the output
+        assertThat(page.getContent().size()).isEqualTo(0);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @DisplayName("JUnit test for get students page operation with invalid cursor")
+    @Test
+    public void givenInvalidCursor_whenGetStudentsPage_thenThrowIllegalArgumentException() {
+        // when - action or the behaviour that we are going test
+        assertThrows(IllegalArgumentException.class, () -> service.getStudentsPage("not-a-cursor", 10));
+
+        // then - verify the output
+        verify(repository, never()).findByIdGreaterThanOrderByIdAsc(any(), any());
+    }
+
+    @DisplayName("JUnit test for search students operation")
+    @Test
+    public void givenQueryWithWildcards_whenSearchStudents_thenEscapeLikePatterns() {
+        // given - precondition or setup
+        given(repository.searchByPrefix("a!_c!%%", 0L, Limit.of(6)))
+                .willReturn(List.of(new StudentView(1L, "A_c%", "Cruz", "me@angelcruzl.dev", 0L)));
+
+        // when - action or the behaviour that we are going test
+        CursorPage<StudentView> students = service.searchStudents(" A_C% ", null, 5);
+
+        // then - verify the output
+        assertThat(students.content().size()).isEqualTo(1);
+        assertThat(students.nextCursor()).isNull();
+        verify(repository).searchBySubstring("%a!_c!%%", "a!_c!%%", 0L, Limit.of(5));
+    }
+
+    @DisplayName("JUnit test for search students operation with a cursor past the prefix matches")
+    @Test
+    public void givenSubstringCursor_whenSearchStudents_thenSkipPrefixMatches() {
+        // given - precondition or setup
+        given(repository.searchBySubstring("%cru%", "cru%", 7L, Limit.of(2))).willReturn(List.of(
+                new StudentView(8L, "Ricardo", "Acruz", "ricardo@acruz.dev", 0L),
+                new StudentView(9L, "Maria", "Lacruz", "maria@lacruz.dev", 0L)));
+
+        // when - action or the behaviour that we are going test
+        CursorPage<StudentView> students = service.searchStudents("cru", Cursors.encode(1, 7L), 1);
+
+        // then - verify the output
+        assertThat(students.content().size()).isEqualTo(1);
+        assertThat(students.nextCursor()).isEqualTo(Cursors.encode(1, 8L));
+        verify(repository, never()).searchByPrefix(any(), any(), any());
+    }
+
+    @DisplayName("JUnit test for search students operation with a short query")
+    @Test
+    public void givenShortQuery_whenSearchStudents_thenThrowIllegalArgumentException() {
+        // when - action or the behaviour that we are going test
+        assertThrows(IllegalArgumentException.class, () -> service.searchStudents("ab", null, 20));
+
+        // then - verify the output
+        verify(repository, never()).searchByPrefix(any(), any(), any());
+    }
+
+    @DisplayName("JUnit test for typeahead operation with a ready index")
+    @Test
+    public void givenReadyIndex_whenTypeahead_thenSearchIndexWithoutDatabase() {
+        // given - precondition or setup
+        given(searchIndex.isReady()).willReturn(true);
+        given(searchIndex.search("an", 10))
+                .willReturn(List.of(new StudentView(1L, "Angel", "Cruz", "me@angelcruzl.dev", 0L)));
+
+        // when - action or the behaviour that we are going test
+        List<StudentView> students = service.typeahead("An", 10);
+
+        // then - verify the output
+        assertThat(students.size()).isEqualTo(1);
+        verify(repository, never()).searchByPrefix(any(), any(), any());
+    }
+
+    @DisplayName("JUnit test for typeahead operation while the index is loading")
+    @Test
+    public void givenLoadingIndex_whenTypeahead_thenSearchDatabaseByPrefix() {
+        // given - precondition or setup
+        given(searchIndex.isReady()).willReturn(false);
+        given(repository.searchByPrefix("an%", 0L, Limit.of(10)))
+                .willReturn(List.of(new StudentView(1L, "Angel", "Cruz", "me@angelcruzl.dev", 0L)));
+
+        // when - action or the behaviour that we are going test
+        List<StudentView> students = service.typeahead("an", 10);
+
+        // then - verify the output
+        assertThat(students.size()).isEqualTo(1);
+        verify(searchIndex, never()).search(any(), anyInt());
+    }
+
+    @DisplayName("JUnit test for export students operation")
+    @Test
+    public void givenStudentsStream_whenExportStudents_thenConsumeAndDetachEachStudent() {
+        // given - precondition or setup
+        given(repository.streamAll()).willReturn(Stream.of(student));
+        List<Student> exported = new ArrayList<>();
+
+        // when - action or the behaviour that we are going test
+        service.exportStudents(exported::add);
+
+        // then - verify the output
+        assertThat(exported.size()).isEqualTo(1);
+        verify(entityManager, times(1)).detach(student);
+    }
+
+    @DisplayName("JUnit test for get students page operation with sparse fieldset")
+    @Test
+    public void givenFields_whenGetStudentFieldsPage_thenSelectIdAndRequestedFields() {
+        // given - precondition or setup
+        given(repository.findFields(Set.of("id", "email"), 0L, 2))
+                .willReturn(java.util.List.of(Map.of("id", 1L, "email", "me@angelcruzl.dev"),
+                        Map.of("id", 2L, "email", "john@doe")));
+
+        // when - action or the behaviour that we are going test
+        CursorPage<Map<String, Object>> page = service.getStudentFieldsPage(Set.of("email"), null, 1);
+
+        // then - verify the output
+        assertThat(page.getContent().size()).isEqualTo(1);
+        assertThat(page.getNextCursor()).isEqualTo(Cursors.encode(1L));
+    }
+
+    @DisplayName("JUnit test for get students operation with unknown field")
+    @Test
+    public void givenUnknownField_whenGetAllStudentFields_thenThrowIllegalArgumentException() {
+        // when - action or the behaviour that we are going test
+        assertThrows(IllegalArgumentException.class, () -> service.getAllStudentFields(Set.of("emailKey")));
+
+        // then - verify the output
+        verify(repository, never()).findFields(any(), any(), any());
+    }
+
     @DisplayName("JUnit test for get student by id operation")
     @Test
     public void givenStudentId_whenFindById_thenReturnStudentObject() {
@@ -117,12 +361,45 @@ public class StudentServiceTests {
         assertThat(studentDb).isNotNull();
     }
 
+    @DisplayName("JUnit test for get student by id operation served from cache")
+    @Test
+    public void givenCachedStudent_whenFindById_thenRepositoryIsCalledOnce() {
+        // given - precondition or setup
+        given(repository.findById(student.getId())).willReturn(Optional.of(student));
+
+        // when - action or the behaviour that we are going test
+        service.getStudentById(student.getId());
+        Student studentDb = service.getStudentById(student.getId()).get();
+
+        // then - verify the output
+        assertThat(studentDb).isEqualTo(student);
+        verify(repository, times(1)).findById(student.getId());
+    }
+
+    @DisplayName("JUnit test for update student operation invalidating the cache")
+    @Test
+    public void givenCachedStudent_whenUpdate_thenCacheIsInvalidated() {
+        // given - precondition or setup
+        given(repository.findById(student.getId())).willReturn(Optional.of(student));
+        given(repository.updateByIdReturningVersion(student.getId(), student.getFirstName(), student.getLastName(),
+                student.getEmail(), "me@angelcruzl.dev")).willReturn(Optional.of(1L));
+        service.getStudentById(student.getId());
+
+        // when - action or the behaviour that we are going test
+        service.updateStudent(student);
+        service.getStudentById(student.getId());
+
+        // then - verify the output
+        verify(cache, times(1)).invalidate(student.getId());
+        verify(repository, times(2)).findById(student.getId());
+    }
+
     @DisplayName("JUnit test for update student operation")
     @Test
     public void givenStudentObject_whenUpdate_thenReturnUpdatedStudent() {
         // given - precondition or setup
-        given(repository.findById(student.getId())).willReturn(Optional.of(student));
-        given(repository.save(student)).willReturn(student);
+        given(repository.updateByIdReturningVersion(student.getId(), "Luis", "Lara", student.getEmail(),
+                "me@angelcruzl.dev")).willReturn(Optional.of(1L));
         student.setFirstName("Luis");
         student.setLastName("Lara");
 
@@ -132,45 +409,223 @@ public class StudentServiceTests {
         // then - verify the output
         assertThat(updatedStudent.getFirstName()).isEqualTo("Luis");
         assertThat(updatedStudent.getLastName()).isEqualTo("Lara");
+        assertThat(updatedStudent.getVersion()).isEqualTo(1L);
+        verify(repository, never()).findById(student.getId());
     }
 
     @DisplayName("JUnit test for update student operation when student does not exist")
     @Test
     public void givenStudentObject_whenUpdate_thenThrowResourceNotFoundException() {
         // given - precondition or setup
-        given(repository.findById(student.getId())).willReturn(Optional.empty());
+        given(repository.updateByIdReturningVersion(any(), any(), any(), any(), any())).willReturn(Optional.empty());
+
+        // when - action or the behaviour that we are going test
+        assertThrows(ResourceNotFoundException.class, () -> service.updateStudent(student));
+
+        // then - verify the output
+        verify(cache, never()).invalidate(student.getId());
+    }
+
+    @DisplayName("JUnit test for conditional update student operation")
+    @Test
+    public void givenCurrentVersion_whenUpdate_thenIncrementVersion() {
+        // given - precondition or setup
+        student.setVersion(2L);
+        given(repository.updateByIdAndVersion(student.getId(), 2L, student.getFirstName(), student.getLastName(),
+                student.getEmail(), "me@angelcruzl.dev")).willReturn(1);
+
+        // when - action or the behaviour that we are going test
+        Student updatedStudent = service.updateStudent(student);
+
+        // then - verify the output
+        assertThat(updatedStudent.getVersion()).isEqualTo(3L);
+        verify(repository, never()).existsById(student.getId());
+    }
+
+    @DisplayName("JUnit test for conditional update student operation with stale version")
+    @Test
+    public void givenStaleVersion_whenUpdate_thenThrowResourceConflictException() {
+        // given - precondition or setup
+        student.setVersion(2L);
+        given(repository.updateByIdAndVersion(any(), any(), any(), any(), any(), any())).willReturn(0);
+        given(repository.existsById(student.getId())).willReturn(true);
+
+        // when - action or the behaviour that we are going test
+        assertThrows(ResourceConflictException.class, () -> service.updateStudent(student));
+
+        // then - verify the output
+        verify(cache, never()).invalidate(student.getId());
+    }
+
+    @DisplayName("JUnit test for conditional update student operation when student does not exist")
+    @Test
+    public void givenVersionForMissingStudent_whenUpdate_thenThrowResourceNotFoundException() {
+        // given - precondition or setup
+        student.setVersion(2L);
+        given(repository.updateByIdAndVersion(any(), any(), any(), any(), any(), any())).willReturn(0);
+        given(repository.existsById(student.getId())).willReturn(false);
 
         // when - action or the behaviour that we are going test
         assertThrows(ResourceNotFoundException.class, () -> service.updateStudent(student));
+    }
+
+    @DisplayName("JUnit test for update student operation with an email already in use")
+    @Test
+    public void givenExistingEmail_whenUpdate_thenThrowDuplicateEmailException() {
+        // given - precondition or setup
+        given(repository.updateByIdReturningVersion(any(), any(), any(), any(), any())).willThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new SQLException("duplicate key value violates unique constraint \"uk_students_email_key\"")));
+
+        // when - action or the behaviour that we are going test
+        assertThrows(DuplicateEmailException.class, () -> service.updateStudent(student));
+
+        // then - verify the output
+        verify(cache, never()).invalidate(student.getId());
+    }
+
+    @DisplayName("JUnit test for patch student operation")
+    @Test
+    public void givenMergePatch_whenPatch_thenUpdateOnlyPatchedFields() {
+        // given - precondition or setup
+        given(repository.updateFields(student.getId(), null,
+                Map.of("email", "Mail@Sample.com", "emailKey", "mail@sample.com"))).willReturn(1);
+        given(repository.findById(student.getId())).willReturn(Optional.of(student));
+
+        // when - action or the behaviour that we are going test
+        Student patchedStudent = service.patchStudent(student.getId(), null, Map.of("email", "Mail@Sample.com"));
+
+        // then - verify the output
+        assertThat(patchedStudent).isEqualTo(student);
+        verify(cache, times(1)).invalidate(student.getId());
+    }
+
+    @DisplayName("JUnit test for patch student operation with unknown field")
+    @Test
+    public void givenMergePatchWithUnknownField_whenPatch_thenThrowIllegalArgumentException() {
+        // when - action or the behaviour that we are going test
+        assertThrows(IllegalArgumentException.class,
+                () -> service.patchStudent(student.getId(), null, Map.of("id", "2")));
+
+        // then - verify the output
+        verify(repository, never()).updateFields(any(), any(), any());
+    }
+
+    @DisplayName("JUnit test for patch student operation removing a required field")
+    @Test
+    public void givenMergePatchWithNullValue_whenPatch_thenThrowIllegalArgumentException() {
+        // given - precondition or setup
+        Map<String, Object> patch = new java.util.HashMap<>();
+        patch.put("lastName", null);
+
+        // when - action or the behaviour that we are going test
+        assertThrows(IllegalArgumentException.class, () -> service.patchStudent(student.getId(), null, patch));
+
+        // then - verify the output
+        verify(repository, never()).updateFields(any(), any(), any());
+    }
+
+    @DisplayName("JUnit test for patch student operation with stale version")
+    @Test
+    public void givenStaleVersion_whenPatch_thenThrowResourceConflictException() {
+        // given - precondition or setup
+        given(repository.updateFields(any(), any(), any())).willReturn(0);
+        given(repository.existsById(student.getId())).willReturn(true);
+
+        // when - action or the behaviour that we are going test
+        assertThrows(ResourceConflictException.class,
+                () -> service.patchStudent(student.getId(), 1L, Map.of("firstName", "Luis")));
+    }
+
+    @DisplayName("JUnit test for empty patch student operation with stale version")
+    @Test
+    public void givenEmptyPatchAndStaleVersion_whenPatch_thenThrowResourceConflictException() {
+        // given - precondition or setup
+        given(repository.findVersionById(student.getId())).willReturn(Optional.of(2L));
+
+        // when - action or the behaviour that we are going test
+        assertThrows(ResourceConflictException.class, () -> service.patchStudent(student.getId(), 1L, Map.of()));
+
+        // then - verify the output
+        verify(repository, never()).updateFields(any(), any(), any());
+        verify(repository, never()).findById(student.getId());
+    }
+
+    @DisplayName("JUnit test for empty patch student operation with current version")
+    @Test
+    public void givenEmptyPatchAndCurrentVersion_whenPatch_thenReturnStudent() {
+        // given - precondition or setup
+        given(repository.findVersionById(student.getId())).willReturn(Optional.of(1L));
+        given(repository.findById(student.getId())).willReturn(Optional.of(student));
+
+        // when - action or the behaviour that we are going test
+        Student patchedStudent = service.patchStudent(student.getId(), 1L, Map.of());
+
+        // then - verify the output
+        assertThat(patchedStudent).isEqualTo(student);
+        verify(cache, never()).invalidate(student.getId());
+    }
+
+    @DisplayName("JUnit test for patch student operation with an email already in use")
+    @Test
+    public void givenExistingEmail_whenPatch_thenThrowDuplicateEmailException() {
+        // given - precondition or setup
+        given(repository.updateFields(any(), any(), any())).willThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new SQLException("duplicate key value violates unique constraint \"uk_students_email\"")));
+
+        // when - action or the behaviour that we are going test
+        assertThrows(DuplicateEmailException.class,
+                () -> service.patchStudent(student.getId(), null, Map.of("email", "john@doe")));
 
         // then - verify the output
-        verify(repository, never()).save(any(Student.class));
+        verify(repository, never()).findById(student.getId());
     }
 
     @DisplayName("JUnit test for delete student operation")
     @Test
     public void givenStudentId_whenDelete_thenVerifyDeleteIsCalled() {
         // given - precondition or setup
-        given(repository.findById(student.getId())).willReturn(Optional.of(student));
+        given(repository.deleteStudentById(student.getId())).willReturn(1);
 
         // when - action or the behaviour that we are going test
         service.deleteStudent(student.getId());
 
         // then - verify the output
-        verify(repository, times(1)).deleteById(student.getId());
+        verify(repository, times(1)).deleteStudentById(student.getId());
+        verify(repository, never()).findById(student.getId());
     }
 
     @DisplayName("JUnit test for delete student operation when student does not exist")
     @Test
     public void givenStudentId_whenDelete_thenThrowResourceNotFoundException() {
         // given - precondition or setup
-        given(repository.findById(student.getId())).willReturn(Optional.empty());
+        given(repository.deleteStudentById(student.getId())).willReturn(0);
 
         // when - action or the behaviour that we are going test
         assertThrows(ResourceNotFoundException.class, () -> service.deleteStudent(student.getId()));
 
         // then - verify the output
-        verify(repository, never()).deleteById(student.getId());
+        verify(cache, never()).invalidate(student.getId());
+    }
+
+    @DisplayName("JUnit test for bulk delete students operation")
+    @Test
+    public void givenStudentIds_whenDeleteStudents_thenDeleteInChunks() {
+        // given - precondition or setup
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 2500; id++) {
+            ids.add(id);
+        }
+        ids.add(1L);
+        given(repository.deleteStudentsByIdIn(any())).willAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        // when - action or the behaviour that we are going test
+        int deletedStudents = service.deleteStudents(ids);
+
+        // then - verify the output
+        assertThat(deletedStudents).isEqualTo(2500);
+        verify(repository, times(3)).deleteStudentsByIdIn(any());
     }
 
 }
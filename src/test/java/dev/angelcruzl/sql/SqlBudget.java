@@ -0,0 +1,19 @@
+package dev.angelcruzl.sql;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the annotated test when its body runs more SQL statements than {@link #value()}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SqlBudgetExtension.class)
+public @interface SqlBudget {
+
+    int value();
+}
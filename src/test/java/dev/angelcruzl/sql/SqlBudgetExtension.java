@@ -0,0 +1,32 @@
+package dev.angelcruzl.sql;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.AssertionFailedError;
+
+public class SqlBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(SqlBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), SqlStatementCounter.open());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        SqlStatementCounter.Scope scope = context.getStore(NAMESPACE)
+                .remove(context.getUniqueId(), SqlStatementCounter.Scope.class);
+        if (scope == null) {
+            return;
+        }
+        scope.close();
+
+        SqlBudget budget = context.getRequiredTestMethod().getAnnotation(SqlBudget.class);
+        if (budget != null && scope.count() > budget.value()) {
+            throw new AssertionFailedError("Expected at most " + budget.value() + " SQL statements but "
+                    + scope.count() + " were run", budget.value(), scope.count());
+        }
+    }
+}